@@ -20,6 +20,10 @@ public class InitRunner implements ApplicationRunner {
     private final PasswordEncoder encoder;
     @Override
     public void run(ApplicationArguments args) throws Exception {
+        //스키마가 유지되는 DB에서는 이미 만들어진 테스트 계정을 다시 넣지 않음
+        if (memberRepository.findByUsername("user").isPresent()) {
+            return;
+        }
         Member member = new Member("user", encoder.encode("1234"));
         memberRepository.save(member);
     }
@@ -0,0 +1,40 @@
+package com.deepblue;
+
+import com.deepblue.service.PostImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * --import-posts=파일경로 옵션으로 기동하면 NDJSON 파일의 게시글을 대량 적재합니다.
+ * 파싱 스레드 수는 --import-parallelism 옵션으로 지정할 수 있습니다.
+ * @since 2026-10-18
+ */
+@RequiredArgsConstructor
+@Component
+public class PostImportRunner implements ApplicationRunner {
+
+    private final PostImportService postImportService;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        List<String> files = args.getOptionValues("import-posts");
+        if (files == null || files.isEmpty()) {
+            return;
+        }
+
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        List<String> parallelismOption = args.getOptionValues("import-parallelism");
+        if (parallelismOption != null && !parallelismOption.isEmpty()) {
+            parallelism = Integer.parseInt(parallelismOption.get(0));
+        }
+
+        for (String file : files) {
+            postImportService.importPosts(Paths.get(file), parallelism);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.deepblue.api;
+
+import com.deepblue.service.ExportFormat;
+import com.deepblue.service.ExportService;
+import io.swagger.annotations.ApiImplicitParam;
+import io.swagger.annotations.ApiOperation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 게시글과 회원 전체 내보내기 요청을 처리해주는 컨트롤러입니다.
+ * Content-Length 없이 응답 스트림에 바로 쓰므로 chunked 전송으로 내려갑니다.
+ * @since 2026-10-18
+ */
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class ExportApiController {
+
+    private final ExportService exportService;
+
+    /**
+     * 전체 게시글을 NDJSON 또는 CSV로 내보냅니다.
+     * @param format 내보낼 형식
+     * @since 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    @ApiOperation(value="게시글 내보내기", notes = "전체 게시글을 NDJSON 또는 CSV로 스트리밍합니다.")
+    @ApiImplicitParam(name = "format", value = "내보낼 형식 (NDJSON, CSV)")
+    @GetMapping("/export/posts")
+    public void exportPosts(@RequestParam(defaultValue = "NDJSON") ExportFormat format,
+                            HttpServletResponse response) throws IOException {
+        prepare(response, format, "posts");
+        long count = exportService.exportPosts(format, response.getOutputStream());
+        log.info("게시글 {}건을 내보냈습니다", count);
+    }
+
+    /**
+     * 비밀번호를 제외한 전체 회원정보를 NDJSON 또는 CSV로 내보냅니다.
+     * @param format 내보낼 형식
+     * @since 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    @ApiOperation(value="회원 내보내기", notes = "비밀번호를 제외한 전체 회원정보를 NDJSON 또는 CSV로 스트리밍합니다.")
+    @ApiImplicitParam(name = "format", value = "내보낼 형식 (NDJSON, CSV)")
+    @GetMapping("/export/members")
+    public void exportMembers(@RequestParam(defaultValue = "NDJSON") ExportFormat format,
+                              HttpServletResponse response) throws IOException {
+        prepare(response, format, "members");
+        long count = exportService.exportMembers(format, response.getOutputStream());
+        log.info("회원 {}건을 내보냈습니다", count);
+    }
+
+    private void prepare(HttpServletResponse response, ExportFormat format, String name) {
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + name + "." + format.getExtension() + "\"");
+    }
+}
@@ -1,8 +1,11 @@
 package com.deepblue.api;
 
+import com.deepblue.domain.AuthEvent;
+import com.deepblue.domain.AuthEventType;
 import com.deepblue.domain.Member;
 import com.deepblue.dto.MemberDataForm;
 import com.deepblue.dto.ResponseDto;
+import com.deepblue.event.AuthEventPublisher;
 import com.deepblue.repository.MemberRepository;
 import com.deepblue.repository.RefreshTokenRepository;
 import com.deepblue.security.MemberLoginRequestDto;
@@ -18,11 +21,13 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import java.nio.charset.Charset;
 import java.util.Optional;
@@ -41,6 +46,7 @@ public class MemberApiController {
     private final PasswordEncoder passwordEncoder;
     private final MemberRepository memberRepository;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final AuthEventPublisher authEventPublisher;
 
     /**
      * 전달받은 회원명의 중복여부를 반환해줍니다.
@@ -76,11 +82,11 @@ public class MemberApiController {
      * @param form 가입할 회원정보 데이터
      * @return 회원가입 성공 시 true, 실패할 경우 false
      * @since 2023-02-17
-     * @lastModified 2023-02-17
+     * @lastModified 2026-10-18
      */
     @ApiOperation(value="회원가입 요청", notes = "전달받은 회원정보로 회원가입을 진행합니다.")
     @PostMapping("/members")
-    public ResponseEntity<ResponseDto> signUp(@RequestBody @Valid MemberDataForm form){
+    public ResponseEntity<ResponseDto> signUp(@RequestBody @Valid MemberDataForm form, HttpServletRequest request){
         boolean isOK = !memberService.isDuplicateUsername(form.getUsername());
 
         HttpHeaders headers = new HttpHeaders();
@@ -92,6 +98,7 @@ public class MemberApiController {
         if(isOK){ //중복이 아닐 경우
             Member member = new Member(form.getUsername(), passwordEncoder.encode(form.getPassword()));
             memberRepository.save(member);
+            authEventPublisher.publish(new AuthEvent(AuthEventType.SIGN_UP, form.getUsername(), request.getRemoteAddr()));
             dto.setMessage("회원가입에 성공했습니다");
             return new ResponseEntity<>(dto, headers, HttpStatus.OK);
         }else{ //중복일 경우
@@ -105,16 +112,23 @@ public class MemberApiController {
      * @param form 가입할 회원정보 데이터
      * @return JWT 토큰정보 DTO
      * @since 2023-02-17
-     * @lastModified 2023-02-18
+     * @lastModified 2026-10-18
      */
     @ApiOperation(value="로그인 요청", notes = "전달받은 회원정보로 로그인을 진행합니다. 로그인에 성공하면 JWT토큰을 발급해줍니다.")
     @PostMapping("/login")
-    public ResponseEntity<ResponseDto> login(@RequestBody @Valid MemberDataForm form){
+    public ResponseEntity<ResponseDto> login(@RequestBody @Valid MemberDataForm form, HttpServletRequest request){
 
         String username = form.getUsername();
         String password = form.getPassword();
 
-        TokenInfo tokenInfo = memberService.login(username, password); //토큰 정보 생성
+        TokenInfo tokenInfo;
+        try {
+            tokenInfo = memberService.login(username, password); //토큰 정보 생성
+        }catch (AuthenticationException e){
+            authEventPublisher.publish(new AuthEvent(AuthEventType.LOGIN_FAILURE, username, request.getRemoteAddr()));
+            throw e;
+        }
+        authEventPublisher.publish(new AuthEvent(AuthEventType.LOGIN_SUCCESS, username, request.getRemoteAddr()));
         RefreshToken refreshToken = new RefreshToken(tokenInfo.getRefreshToken()); //리프레쉬토큰을 DB에 저장
         refreshTokenRepository.save(refreshToken);
 
@@ -130,20 +144,23 @@ public class MemberApiController {
      * @param refreshToken 사용자가 전달한 리프레쉬토큰
      * @return JWT 토큰 정보
      * @since 2023-02-18
-     * @lastModified 2023-02-18
+     * @lastModified 2026-10-18
      */
     @ApiOperation(value="액세스 토큰 재발급 요청",
             notes = "클라이언트로부터 리프레쉬토큰을 받은 후 액세스토큰을 재발급해줍니다.")
     @PostMapping("/members/recreate-access")
-    public ResponseEntity<ResponseDto> recreateAccessToken(@RequestBody String refreshToken){
+    public ResponseEntity<ResponseDto> recreateAccessToken(@RequestBody String refreshToken, HttpServletRequest request){
 
         //유저한테 받은 리프레쉬토큰이 DB에 있는지 확인
-        Optional<RefreshToken> tokenOptional = refreshTokenRepository.findByDigest(refreshToken);
+        boolean isStored = memberService.isStoredRefreshToken(refreshToken);
+        //계정별 이상 탐지를 위해 이벤트에 토큰의 회원명을 남김, 해석할 수 없는 토큰이면 null
+        String username = memberService.findTokenSubject(refreshToken);
 
         ResponseDto dto = new ResponseDto();
 
         //리프레쉬토큰이 DB에 없을 경우
-        if(!tokenOptional.isPresent()) {
+        if(!isStored) {
+            authEventPublisher.publish(new AuthEvent(AuthEventType.REFRESH_FAILURE, username, request.getRemoteAddr()));
             dto.setMessage("리프레쉬 토큰을 찾지 못했습니다");
             dto.setData(false);
             return new ResponseEntity<>(dto, HttpStatus.BAD_REQUEST);
@@ -152,14 +169,15 @@ public class MemberApiController {
 
             try {
 
-                RefreshToken findToken = tokenOptional.get();
                 //리프레쉬토큰을 기반으로 새로운 액세스토큰을 생성해서 발급
                 TokenInfo tokenInfo = memberService.recreateAccessToken(refreshToken);
+                authEventPublisher.publish(new AuthEvent(AuthEventType.REFRESH_SUCCESS, username, request.getRemoteAddr()));
                 dto.setMessage("정상적으로 토큰이 재발급되었습니다");
                 dto.setData(tokenInfo);
                 return new ResponseEntity<>(dto, HttpStatus.OK);
 
             }catch (Exception e){
+                authEventPublisher.publish(new AuthEvent(AuthEventType.REFRESH_FAILURE, username, request.getRemoteAddr()));
                 dto.setMessage("리프레쉬토큰이 만료되었거나 잘못된 토큰입니다");
                 dto.setData(false);
                 return new ResponseEntity<>(dto, HttpStatus.BAD_REQUEST);
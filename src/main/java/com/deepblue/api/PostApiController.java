@@ -0,0 +1,269 @@
+package com.deepblue.api;
+
+import com.deepblue.dto.PostDto;
+import com.deepblue.dto.PostForm;
+import com.deepblue.dto.PostVersion;
+import com.deepblue.dto.ResponseDto;
+import com.deepblue.service.LikeCountBroadcaster;
+import com.deepblue.service.PostService;
+import com.deepblue.service.TrendingPostService;
+import io.swagger.annotations.ApiImplicitParam;
+import io.swagger.annotations.ApiOperation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.core.Authentication;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.validation.Valid;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글과 관련된 API요청을 처리해주는 컨트롤러입니다.
+ * @since 2026-10-18
+ */
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class PostApiController {
+
+    private final PostService postService;
+    private final TrendingPostService trendingPostService;
+    private final LikeCountBroadcaster likeCountBroadcaster;
+
+    private static final int MAX_FEED_SIZE = 100;
+    private static final int MAX_STREAM_POSTS = 100;
+    private static final int MAX_UPDATE_ATTEMPTS = 3;
+
+    /**
+     * 좋아요 수 기준 인기 게시글 목록을 반환해줍니다.
+     * @return 인기 게시글ID와 점수 목록
+     * @since 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    @ApiOperation(value="인기 게시글 조회", notes = "메모리에 유지중인 인기 게시글 상위 목록을 반환해줍니다.")
+    @GetMapping("/posts/trending")
+    public ResponseEntity<ResponseDto> trending(){
+        ResponseDto dto = new ResponseDto();
+        dto.setMessage("인기 게시글 목록입니다");
+        dto.setData(trendingPostService.getTrendingPosts());
+        return new ResponseEntity<>(dto, HttpStatus.OK);
+    }
+
+    /**
+     * DB를 기준으로 인기 게시글 순위를 다시 계산합니다.
+     * @return 재계산된 인기 게시글 목록
+     * @since 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    @ApiOperation(value="인기 게시글 재계산", notes = "DB의 좋아요 수를 기준으로 인기 게시글 순위를 다시 계산합니다.")
+    @PostMapping("/posts/trending/rebuild")
+    public ResponseEntity<ResponseDto> rebuildTrending(){
+        trendingPostService.rebuild();
+
+        ResponseDto dto = new ResponseDto();
+        dto.setMessage("인기 게시글 순위를 재계산했습니다");
+        dto.setData(trendingPostService.getTrendingPosts());
+        return new ResponseEntity<>(dto, HttpStatus.OK);
+    }
+
+    /**
+     * 게시글에 좋아요를 누릅니다. 로그인한 회원만 게시글 하나에 한 번 누를 수 있습니다.
+     * @param postId 좋아요를 누를 게시글ID
+     * @param authentication 좋아요를 누르는 회원의 인증정보
+     * @return 증가된 좋아요 수
+     * @since 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    @ApiOperation(value="게시글 좋아요", notes = "게시글의 좋아요 수를 1 증가시킵니다. 이미 누른 게시글이면 409를 반환합니다.")
+    @ApiImplicitParam(name = "postId", value = "좋아요를 누를 게시글ID")
+    @PostMapping("/posts/{postId}/like")
+    public ResponseEntity<ResponseDto> like(@PathVariable Long postId, Authentication authentication){
+        ResponseDto dto = new ResponseDto();
+
+        try {
+            int likeCnt = postService.like(postId, authentication.getName());
+            dto.setMessage("좋아요가 반영되었습니다");
+            dto.setData(likeCnt);
+            return new ResponseEntity<>(dto, HttpStatus.OK);
+        }catch (IllegalArgumentException e){
+            dto.setMessage(e.getMessage());
+            dto.setData(false);
+            return new ResponseEntity<>(dto, HttpStatus.NOT_FOUND);
+        }catch (IllegalStateException | DataIntegrityViolationException e){
+            dto.setMessage("이미 좋아요를 누른 게시글입니다");
+            dto.setData(false);
+            return new ResponseEntity<>(dto, HttpStatus.CONFLICT);
+        }
+    }
+
+    /**
+     * 게시글을 조회합니다. If-None-Match가 현재 ETag와 같으면 본문을 읽지 않고 304를 반환해줍니다.
+     * @param postId 조회할 게시글ID
+     * @return 게시글 DTO
+     * @since 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    @ApiOperation(value="게시글 조회", notes = "게시글을 조회합니다. 변경되지 않았다면 304를 반환합니다.")
+    @ApiImplicitParam(name = "postId", value = "조회할 게시글ID")
+    @GetMapping("/posts/{postId}")
+    public ResponseEntity<ResponseDto> post(@PathVariable Long postId, WebRequest webRequest){
+
+        //버전만 조회해서 변경여부 확인
+        Optional<Long> version = postService.findVersion(postId);
+        if(!version.isPresent()){
+            return new ResponseEntity<>(new ResponseDto("존재하지 않는 게시글입니다", false), HttpStatus.NOT_FOUND);
+        }
+        if(webRequest.checkNotModified(postETag(postId, version.get()))){
+            return null; //304
+        }
+
+        PostDto post = postService.findPost(postId);
+        return ResponseEntity.ok()
+                .eTag(postETag(postId, post.getVersion()))
+                .body(new ResponseDto("게시글을 조회했습니다", post));
+    }
+
+    /**
+     * 최신순 게시글 피드를 조회합니다. If-None-Match가 현재 ETag와 같으면 본문을 읽지 않고 304를 반환해줍니다.
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @return 게시글 DTO 목록
+     * @since 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    @ApiOperation(value="게시글 피드 조회", notes = "최신순 게시글 목록을 조회합니다. 변경되지 않았다면 304를 반환합니다.")
+    @GetMapping("/posts")
+    public ResponseEntity<ResponseDto> feed(@RequestParam(defaultValue = "0") int page,
+                                            @RequestParam(defaultValue = "20") int size,
+                                            WebRequest webRequest){
+        size = Math.min(Math.max(size, 1), MAX_FEED_SIZE);
+        page = Math.max(page, 0);
+
+        //페이지에 포함된 게시글ID와 버전으로 ETag 생성
+        List<PostVersion> versions = postService.findFeedVersions(page, size);
+        String eTag = feedETag(page, size, versions);
+        if(webRequest.checkNotModified(eTag)){
+            return null; //304
+        }
+
+        List<Long> ids = versions.stream().map(PostVersion::getId).collect(Collectors.toList());
+        List<PostDto> posts = postService.findFeed(ids);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(new ResponseDto("게시글 피드를 조회했습니다", posts));
+    }
+
+    /**
+     * 게시글 내용을 수정합니다. If-Match가 있으면 현재 ETag와 같을 때만 수정합니다.
+     * If-Match가 없으면 좋아요로 버전이 바뀌어 충돌하더라도 다시 읽어서 수정합니다.
+     * @param postId 수정할 게시글ID
+     * @param ifMatch 클라이언트가 알고있는 게시글 ETag
+     * @param form 수정할 내용
+     * @return 수정된 게시글 DTO
+     * @since 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    @ApiOperation(value="게시글 수정", notes = "게시글 내용을 수정합니다. If-Match가 현재 ETag와 다르면 412를 반환합니다.")
+    @ApiImplicitParam(name = "postId", value = "수정할 게시글ID")
+    @PutMapping("/posts/{postId}")
+    public ResponseEntity<ResponseDto> update(@PathVariable Long postId,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                              @RequestBody @Valid PostForm form){
+        Long expectedVersion = null;
+        if(ifMatch != null && !"*".equals(ifMatch.trim())){
+            expectedVersion = parseVersion(postId, ifMatch);
+            if(expectedVersion == null){
+                return new ResponseEntity<>(new ResponseDto("게시글이 변경되었습니다", false), HttpStatus.PRECONDITION_FAILED);
+            }
+        }
+
+        for(int attempt = 1; ; attempt++){
+            try {
+                PostDto post = postService.update(postId, expectedVersion, form.getContent());
+                return ResponseEntity.ok()
+                        .eTag(postETag(postId, post.getVersion()))
+                        .body(new ResponseDto("게시글을 수정했습니다", post));
+            }catch (IllegalArgumentException e){
+                return new ResponseEntity<>(new ResponseDto(e.getMessage(), false), HttpStatus.NOT_FOUND);
+            }catch (ObjectOptimisticLockingFailureException e){
+                //전제조건이 없는 요청은 412가 아니라 새 트랜잭션에서 다시 시도
+                if(expectedVersion == null && attempt < MAX_UPDATE_ATTEMPTS){
+                    continue;
+                }
+                if(expectedVersion == null){
+                    return new ResponseEntity<>(new ResponseDto("게시글 수정이 충돌했습니다. 잠시 후 다시 시도해주세요", false), HttpStatus.CONFLICT);
+                }
+                return new ResponseEntity<>(new ResponseDto("게시글이 변경되었습니다", false), HttpStatus.PRECONDITION_FAILED);
+            }
+        }
+    }
+
+    /**
+     * 전달받은 게시글들의 좋아요 수 변화량을 SSE로 구독합니다.
+     * 변화량은 게시글별로 일정 주기 동안 합쳐져서 likes 이벤트 하나로 전달됩니다.
+     * @param postIds 구독할 게시글ID 목록
+     * @since 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    @ApiOperation(value="좋아요 수 변화 구독", notes = "게시글들의 좋아요 수 변화량을 SSE로 전달받습니다.")
+    @ApiImplicitParam(name = "postIds", value = "구독할 게시글ID 목록 (최대 100개)")
+    @GetMapping("/posts/likes/stream")
+    public void likeStream(@RequestParam List<Long> postIds,
+                           HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if(postIds.isEmpty() || postIds.size() > MAX_STREAM_POSTS){
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "게시글ID는 1개 이상 " + MAX_STREAM_POSTS + "개 이하로 입력해야합니다");
+            return;
+        }
+        if(!likeCountBroadcaster.subscribe(new LinkedHashSet<>(postIds), request, response)){
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "구독자 수가 가득 찼습니다");
+        }
+    }
+
+    private static String postETag(Long postId, Long version){
+        return "\"" + postId + "-" + version + "\"";
+    }
+
+    private static String feedETag(int page, int size, List<PostVersion> versions){
+        StringBuilder sb = new StringBuilder();
+        for(PostVersion version : versions){
+            sb.append(version.getId()).append(':').append(version.getVersion()).append(';');
+        }
+        String hash = DigestUtils.md5DigestAsHex(sb.toString().getBytes(StandardCharsets.UTF_8));
+        return "\"feed-" + page + "-" + size + "-" + hash + "\"";
+    }
+
+    //"게시글ID-버전" 형태의 ETag에서 버전을 추출, 형식이 다르면 null
+    private static Long parseVersion(Long postId, String eTag){
+        String value = eTag.trim();
+        String prefix = "\"" + postId + "-";
+        if(!value.startsWith(prefix) || !value.endsWith("\"") || value.length() <= prefix.length() + 1){
+            return null;
+        }
+        try {
+            return Long.parseLong(value.substring(prefix.length(), value.length() - 1));
+        }catch (NumberFormatException e){
+            return null;
+        }
+    }
+}
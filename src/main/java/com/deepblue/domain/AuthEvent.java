@@ -0,0 +1,37 @@
+package com.deepblue.domain;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 감사 및 어뷰징 탐지용 인증 이벤트입니다.
+ * 저장은 AuthEventPublisher가 JDBC 다중행 insert로 처리하므로 JPA로 직접 persist하지 않습니다.
+ * @since 2026-10-18
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@SequenceGenerator(name = "auth_event_seq_generator", sequenceName = "auth_event_seq", allocationSize = 1)
+public class AuthEvent {
+
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "auth_event_seq_generator")
+    @Column(name = "auth_event_id")
+    private Long id;
+    @Enumerated(EnumType.STRING)
+    @Column(length = 32)
+    private AuthEventType eventType;
+    private String username;
+    @Column(length = 64)
+    private String clientIp;
+    private LocalDateTime occurredAt;
+
+    public AuthEvent(AuthEventType eventType, String username, String clientIp) {
+        this.eventType = eventType;
+        this.username = username;
+        this.clientIp = clientIp;
+        this.occurredAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,9 @@
+package com.deepblue.domain;
+
+public enum AuthEventType {
+    LOGIN_SUCCESS,
+    LOGIN_FAILURE,
+    REFRESH_SUCCESS,
+    REFRESH_FAILURE,
+    SIGN_UP
+}
@@ -6,19 +6,29 @@ import lombok.NoArgsConstructor;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Version;
 
 @Entity
 @Data
 @NoArgsConstructor
+@SequenceGenerator(name = "post_seq_generator", sequenceName = "post_seq", allocationSize = Post.ID_ALLOCATION_SIZE)
 public class Post {
 
-    @Id @GeneratedValue
+    //post_seq 증가폭과 같아야 함, 대량 적재도 같은 크기로 ID 범위를 할당받음
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq_generator")
     @Column(name = "post_id")
     private Long id;
     @Column(length = 10000)
     private String content;
     private int likeCnt;
+    @Version
+    private Long version;
 
     public Post(String content) {
         this.content = content;
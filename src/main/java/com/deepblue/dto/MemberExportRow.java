@@ -0,0 +1,13 @@
+package com.deepblue.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MemberExportRow {
+    private Long id;
+    private String username;
+}
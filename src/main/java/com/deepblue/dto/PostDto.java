@@ -0,0 +1,23 @@
+package com.deepblue.dto;
+
+import com.deepblue.domain.Post;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostDto {
+    private Long id;
+    private String content;
+    private int likeCnt;
+    private Long version;
+
+    public PostDto(Post post) {
+        this.id = post.getId();
+        this.content = post.getContent();
+        this.likeCnt = post.getLikeCnt();
+        this.version = post.getVersion();
+    }
+}
@@ -0,0 +1,14 @@
+package com.deepblue.dto;
+
+import lombok.Data;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
+
+@Data
+public class PostForm {
+
+    @NotBlank(message = "내용을 입력해야합니다")
+    @Size(max = 10000, message = "내용은 10000자 이하로 입력해야합니다")
+    private String content;
+}
@@ -0,0 +1,11 @@
+package com.deepblue.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PostImportRecord {
+    private String content;
+    private int likeCnt;
+}
@@ -0,0 +1,16 @@
+package com.deepblue.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class PostImportResult {
+    private long imported;
+    private long rejected;
+    private long elapsedMillis;
+
+    public long getPostsPerMinute() {
+        return elapsedMillis == 0 ? imported : imported * 60_000 / elapsedMillis;
+    }
+}
@@ -0,0 +1,10 @@
+package com.deepblue.dto;
+
+/**
+ * 게시글ID와 버전만 담는 조회용 프로젝션입니다.
+ * @since 2026-10-18
+ */
+public interface PostVersion {
+    Long getId();
+    Long getVersion();
+}
@@ -0,0 +1,13 @@
+package com.deepblue.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TrendingPostDto {
+    private Long postId;
+    private double score;
+}
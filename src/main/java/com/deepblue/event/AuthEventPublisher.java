@@ -0,0 +1,150 @@
+package com.deepblue.event;
+
+import com.deepblue.domain.AuthEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 인증 이벤트를 요청 스레드에서 떼어내 비동기로 저장해주는 파이프라인입니다.
+ * 요청 스레드는 링버퍼에 넣기만 하고, 전용 소비자 스레드 하나가 이벤트를 묶어서 AuthEventSink에 씁니다.
+ * 버퍼가 가득 찼을 때 drop이면 즉시 버리고, block이면 block-timeout 동안 기다린 뒤 버립니다.
+ * @since 2026-10-18
+ */
+@Component
+@Slf4j
+public class AuthEventPublisher {
+
+    public enum OverflowPolicy { DROP, BLOCK }
+
+    private final MpscRingBuffer<AuthEvent> buffer;
+    private final AuthEventSink sink;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final long idleNanos;
+    private final long shutdownTimeoutMillis;
+
+    private final Counter published;
+    private final Counter dropped;
+    private final Counter failed;
+    private volatile long lagMillis; //마지막으로 저장한 묶음의 가장 오래된 이벤트가 기다린 시간
+
+    private volatile boolean running;
+    private Thread consumer;
+
+    public AuthEventPublisher(AuthEventSink sink, MeterRegistry meterRegistry,
+                              @Value("${auth-event.capacity:8192}") int capacity,
+                              @Value("${auth-event.batch-size:256}") int batchSize,
+                              @Value("${auth-event.overflow:drop}") String overflow,
+                              @Value("${auth-event.block-timeout:5ms}") Duration blockTimeout,
+                              @Value("${auth-event.idle-wait:10ms}") Duration idleWait,
+                              @Value("${auth-event.shutdown-timeout:5s}") Duration shutdownTimeout) {
+        this.buffer = new MpscRingBuffer<>(capacity);
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.overflowPolicy = OverflowPolicy.valueOf(overflow.toUpperCase());
+        this.blockTimeoutNanos = blockTimeout.toNanos();
+        this.idleNanos = idleWait.toNanos();
+        this.shutdownTimeoutMillis = shutdownTimeout.toMillis();
+
+        this.published = meterRegistry.counter("auth.events.published");
+        this.dropped = meterRegistry.counter("auth.events.dropped");
+        this.failed = meterRegistry.counter("auth.events.failed");
+        Gauge.builder("auth.events.queue.depth", buffer, MpscRingBuffer::size).register(meterRegistry);
+        Gauge.builder("auth.events.lag", this, p -> p.lagMillis)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 인증 이벤트를 저장 대기열에 넣습니다. 요청 스레드를 막지 않습니다.
+     * @param event 저장할 인증 이벤트
+     * @return 대기열에 들어갔으면 true, 버려졌으면 false
+     * @since 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    public boolean publish(AuthEvent event) {
+        if (buffer.offer(event) || (overflowPolicy == OverflowPolicy.BLOCK && offerWithin(event))) {
+            published.increment();
+            return true;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    private boolean offerWithin(AuthEvent event) {
+        long deadline = System.nanoTime() + blockTimeoutNanos;
+        while (System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+            if (buffer.offer(event)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        consumer = new Thread(this::consume, "auth-event-consumer");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws Exception {
+        running = false;
+        LockSupport.unpark(consumer);
+        consumer.join(shutdownTimeoutMillis);
+        if (consumer.isAlive()) {
+            //느린 DB나 밀린 대기열로 제시간에 끝나지 않으면 남은 이벤트를 버리고 중단시킴
+            log.warn("인증 이벤트 소비자가 {}ms 안에 끝나지 않아 중단합니다. 남은 이벤트: {}건",
+                    shutdownTimeoutMillis, buffer.size());
+            consumer.interrupt();
+            consumer.join(shutdownTimeoutMillis);
+        }
+        //소비자가 sink.write 중일 수 있으므로 종료를 확인한 뒤에만 닫음
+        if (consumer.isAlive()) {
+            log.error("인증 이벤트 소비자가 중단되지 않아 저장소를 닫지 않습니다. 남은 이벤트: {}건", buffer.size());
+            return;
+        }
+        sink.close();
+    }
+
+    private void consume() {
+        List<AuthEvent> batch = new ArrayList<>(batchSize);
+        while ((running || buffer.size() > 0) && !Thread.currentThread().isInterrupted()) {
+            buffer.drain(batch::add, batchSize);
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(idleNanos);
+                continue;
+            }
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(List<AuthEvent> batch) {
+        try {
+            sink.write(batch);
+            lagMillis = Duration.between(batch.get(0).getOccurredAt(), LocalDateTime.now()).toMillis();
+        } catch (Exception e) {
+            //재시도하면 대기열이 무한정 밀리므로 묶음을 버리고 기록만 남김
+            failed.increment(batch.size());
+            log.warn("인증 이벤트 {}건을 저장하지 못했습니다", batch.size(), e);
+        }
+    }
+}
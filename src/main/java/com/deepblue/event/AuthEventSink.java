@@ -0,0 +1,18 @@
+package com.deepblue.event;
+
+import com.deepblue.domain.AuthEvent;
+
+import java.util.List;
+
+/**
+ * 모아진 인증 이벤트를 한 번에 저장하는 저장소입니다.
+ * AuthEventPublisher의 소비자 스레드 하나에서만 호출됩니다.
+ * @since 2026-10-18
+ */
+public interface AuthEventSink {
+
+    void write(List<AuthEvent> events) throws Exception;
+
+    default void close() throws Exception {
+    }
+}
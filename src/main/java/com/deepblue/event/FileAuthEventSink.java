@@ -0,0 +1,88 @@
+package com.deepblue.event;
+
+import com.deepblue.domain.AuthEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 인증 이벤트를 로컬 파일에 한 줄씩 JSON으로 이어붙입니다.
+ * 파일이 설정한 크기를 넘으면 시각을 붙인 이름으로 옮기고 새 파일을 엽니다.
+ * @since 2026-10-18
+ */
+@Component
+@ConditionalOnProperty(name = "auth-event.sink", havingValue = "file")
+public class FileAuthEventSink implements AuthEventSink {
+
+    private static final DateTimeFormatter ROTATE_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS");
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final Path path;
+    private final long maxBytes;
+    private OutputStream out;
+    private long written;
+
+    public FileAuthEventSink(@Value("${auth-event.file.path:logs/auth-events.log}") String path,
+                             @Value("${auth-event.file.max-size:10MB}") DataSize maxSize) {
+        this.path = Paths.get(path);
+        this.maxBytes = maxSize.toBytes();
+    }
+
+    @Override
+    public void write(List<AuthEvent> events) throws IOException {
+        if (out == null) {
+            open();
+        }
+        for (AuthEvent event : events) {
+            byte[] line = objectMapper.writeValueAsBytes(event);
+            out.write(line);
+            out.write('\n');
+            written += line.length + 1;
+        }
+        out.flush();
+        if (written >= maxBytes) {
+            rotate();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (out != null) {
+            out.close();
+            out = null;
+        }
+    }
+
+    private void open() throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        written = Files.exists(path) ? Files.size(path) : 0;
+        out = new BufferedOutputStream(Files.newOutputStream(path,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE));
+    }
+
+    private void rotate() throws IOException {
+        close();
+        Path rotated = path.resolveSibling(path.getFileName() + "." + LocalDateTime.now().format(ROTATE_SUFFIX));
+        Files.move(path, rotated);
+        open();
+    }
+}
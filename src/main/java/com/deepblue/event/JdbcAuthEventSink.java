@@ -0,0 +1,43 @@
+package com.deepblue.event;
+
+import com.deepblue.domain.AuthEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 인증 이벤트 묶음을 다중행 insert 한 번으로 auth_event 테이블에 저장합니다.
+ * @since 2026-10-18
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth-event.sink", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcAuthEventSink implements AuthEventSink {
+
+    private static final String INSERT = "insert into auth_event (auth_event_id, event_type, username, client_ip, occurred_at) values ";
+    private static final String ROW = "(next value for auth_event_seq, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void write(List<AuthEvent> events) {
+        StringBuilder sql = new StringBuilder(INSERT.length() + events.size() * (ROW.length() + 1)).append(INSERT);
+        Object[] args = new Object[events.size() * 4];
+        int i = 0;
+        for (AuthEvent event : events) {
+            if (i > 0) {
+                sql.append(',');
+            }
+            sql.append(ROW);
+            args[i++] = event.getEventType().name();
+            args[i++] = event.getUsername();
+            args[i++] = event.getClientIp();
+            args[i++] = Timestamp.valueOf(event.getOccurredAt());
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+}
@@ -0,0 +1,85 @@
+package com.deepblue.event;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * 여러 생산자, 단일 소비자용 고정 크기 링버퍼입니다.
+ * 생산자는 슬롯별 시퀀스 번호와 CAS만으로 자리를 잡으므로 락 없이 넣을 수 있고, 가득 차면 즉시 false를 반환합니다.
+ * poll, drain은 반드시 하나의 소비자 스레드에서만 호출해야 합니다.
+ * @since 2026-10-18
+ */
+public class MpscRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final Object[] buffer;
+    //슬롯에 쓸 수 있는 위치(비어있음) 또는 위치+1(채워짐)을 기록
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    public MpscRingBuffer(int requestedCapacity) {
+        this.capacity = Integer.highestOneBit(Math.max(requestedCapacity - 1, 1)) << 1;
+        this.mask = capacity - 1;
+        this.buffer = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    buffer[index] = element;
+                    sequences.lazySet(index, position + 1); //소비자에게 공개
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                return false; //소비자가 아직 비우지 못한 슬롯, 가득 참
+            } else {
+                position = tail.get(); //다른 생산자가 먼저 가져감
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long position = head.get();
+        int index = (int) (position & mask);
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        E element = (E) buffer[index];
+        buffer[index] = null;
+        sequences.lazySet(index, position + capacity); //다음 바퀴의 생산자에게 반납
+        head.lazySet(position + 1);
+        return element;
+    }
+
+    public int drain(Consumer<E> consumer, int limit) {
+        int count = 0;
+        E element;
+        while (count < limit && (element = poll()) != null) {
+            consumer.accept(element);
+            count++;
+        }
+        return count;
+    }
+
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,42 @@
+package com.deepblue.jfr;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * JFR 이벤트에 담을 값을 만드는 도우미입니다.
+ * 이벤트가 기록될 때(shouldCommit이 true일 때)만 호출해서 비활성 상태의 비용을 없앱니다.
+ * @since 2026-10-18
+ */
+public final class JfrEvents {
+
+    public static final String SUCCESS = "SUCCESS";
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private JfrEvents() {
+    }
+
+    //회원명을 그대로 남기지 않도록 SHA-256 앞 8바이트만 사용
+    public static String hashUsername(String username) {
+        if (username == null) {
+            return null;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(username.getBytes(StandardCharsets.UTF_8));
+            char[] hex = new char[16];
+            for (int i = 0; i < 8; i++) {
+                hex[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+                hex[i * 2 + 1] = HEX[digest[i] & 0xF];
+            }
+            return new String(hex);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String outcomeOf(Throwable t) {
+        return t == null ? SUCCESS : t.getClass().getSimpleName();
+    }
+}
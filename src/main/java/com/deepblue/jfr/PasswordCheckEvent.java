@@ -0,0 +1,21 @@
+package com.deepblue.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.deepblue.PasswordCheck")
+@Label("Password Check")
+@Description("MemberService.login에서 회원 조회와 비밀번호 검증을 진행한 구간")
+@Category({"DeepBlue", "Security"})
+@StackTrace(false)
+public class PasswordCheckEvent extends jdk.jfr.Event {
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("Username Hash")
+    public String usernameHash;
+}
@@ -0,0 +1,24 @@
+package com.deepblue.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.deepblue.RepositoryCall")
+@Label("Repository Call")
+@Description("Spring Data 리포지토리 메소드 호출 구간")
+@Category({"DeepBlue", "Persistence"})
+@StackTrace(false)
+public class RepositoryCallEvent extends jdk.jfr.Event {
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Outcome")
+    public String outcome;
+}
@@ -0,0 +1,38 @@
+package com.deepblue.jfr;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * 리포지토리 메소드 호출을 RepositoryCallEvent로 기록합니다.
+ * @since 2026-10-18
+ */
+class RepositoryCallEventInterceptor implements MethodInterceptor {
+
+    private final String repository;
+
+    RepositoryCallEventInterceptor(Class<?> repositoryInterface) {
+        this.repository = repositoryInterface.getSimpleName();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.begin();
+        Throwable failure = null;
+        try {
+            return invocation.proceed();
+        } catch (Throwable t) {
+            failure = t;
+            throw t;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.repository = repository;
+                event.method = invocation.getMethod().getName();
+                event.outcome = JfrEvents.outcomeOf(failure);
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.deepblue.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.deepblue.TokenSigning")
+@Label("JWT Signing")
+@Description("JwtTokenProvider에서 토큰을 생성하고 서명한 구간")
+@Category({"DeepBlue", "Security"})
+@StackTrace(false)
+public class TokenSigningEvent extends jdk.jfr.Event {
+
+    @Label("Token Type")
+    public String tokenType;
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("Username Hash")
+    public String usernameHash;
+}
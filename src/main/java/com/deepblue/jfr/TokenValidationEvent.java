@@ -0,0 +1,21 @@
+package com.deepblue.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.deepblue.TokenValidation")
+@Label("JWT Validation")
+@Description("JwtAuthenticationFilter에서 액세스토큰을 검증하고 인증객체를 만든 구간")
+@Category({"DeepBlue", "Security"})
+@StackTrace(false)
+public class TokenValidationEvent extends jdk.jfr.Event {
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("Username Hash")
+    public String usernameHash;
+}
@@ -0,0 +1,99 @@
+package com.deepblue.limiter;
+
+import com.deepblue.dto.ResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경로 그룹별 AdaptiveConcurrencyLimiter로 동시 처리 요청 수를 제한하는 필터입니다.
+ * 한도를 넘은 요청은 DB나 Tomcat 스레드를 쓰기 전에 503과 Retry-After로 바로 돌려보냅니다.
+ * @since 2026-10-18
+ */
+public class AdaptiveConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, AdaptiveConcurrencyLimiter> groups; //경로 패턴별 리미터, 선언 순서대로 검사
+    private final AdaptiveConcurrencyLimiter defaultLimiter;
+    private final List<String> excludePaths;
+    private final long retryAfterSeconds;
+    private final byte[] rejectedBody;
+    private final Counter shed;
+
+    public AdaptiveConcurrencyLimitFilter(Map<String, AdaptiveConcurrencyLimiter> groups,
+                                          AdaptiveConcurrencyLimiter defaultLimiter,
+                                          List<String> excludePaths, long retryAfterSeconds,
+                                          ObjectMapper objectMapper, MeterRegistry meterRegistry) throws IOException {
+        this.groups = groups;
+        this.defaultLimiter = defaultLimiter;
+        this.excludePaths = excludePaths;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.rejectedBody = objectMapper.writeValueAsBytes(new ResponseDto("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요", false));
+        this.shed = meterRegistry.counter("http.server.requests.shed");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = pathOf(request);
+        return excludePaths.stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        AdaptiveConcurrencyLimiter limiter = limiterFor(pathOf(request));
+        int inFlight = limiter.tryAcquire();
+        if (inFlight < 0) {
+            reject(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = false;
+        } finally {
+            //예외로 끝난 요청과 비동기로 넘어간 요청은 지연시간 표본에서 제외
+            boolean sample = !failed && !request.isAsyncStarted();
+            limiter.release(sample ? System.nanoTime() - start : -1, inFlight);
+        }
+    }
+
+    private AdaptiveConcurrencyLimiter limiterFor(String path) {
+        for (Map.Entry<String, AdaptiveConcurrencyLimiter> group : groups.entrySet()) {
+            if (pathMatcher.match(group.getKey(), path)) {
+                return group.getValue();
+            }
+        }
+        return defaultLimiter;
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        shed.increment();
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentLength(rejectedBody.length);
+        response.getOutputStream().write(rejectedBody);
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
@@ -0,0 +1,106 @@
+package com.deepblue.limiter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 관측된 지연시간으로 동시 처리 한도를 조절하는 AIMD 리미터입니다.
+ * 지연시간이 최근 최소 지연시간의 tolerance배 이하이면 한도를 천천히 올리고(additive increase),
+ * 넘거나 max-latency를 넘으면 한도를 backoff 비율로 줄입니다(multiplicative decrease).
+ * 한도 획득은 CAS만으로 처리하고, 지연시간 반영만 그룹별 락을 사용합니다.
+ * @since 2026-10-18
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final int MIN_RTT_WINDOW = 500;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double backoff;
+    private final long maxLatencyNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    //아래 필드는 this로 동기화해서 접근
+    private long minRttNanos = Long.MAX_VALUE;
+    private long windowMinRttNanos = Long.MAX_VALUE;
+    private int windowSamples;
+    private int samplesSinceDecrease;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                      double tolerance, double backoff, long maxLatencyMillis) {
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.backoff = backoff;
+        this.maxLatencyNanos = TimeUnit.MILLISECONDS.toNanos(maxLatencyMillis);
+        this.limit = initialLimit;
+    }
+
+    /**
+     * 처리 한도 안이면 자리를 하나 차지합니다.
+     * @return 자리를 얻었으면 현재 처리중 요청 수, 한도를 넘었으면 -1
+     */
+    public int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return -1;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * 자리를 반납하고 지연시간을 한도 조절에 반영합니다.
+     * @param rttNanos 요청 처리 시간, 음수면 반영하지 않음
+     * @param inFlightAtStart 자리를 얻을 때의 처리중 요청 수
+     */
+    public void release(long rttNanos, int inFlightAtStart) {
+        inFlight.decrementAndGet();
+        if (rttNanos >= 0) {
+            onSample(rttNanos, inFlightAtStart);
+        }
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtStart) {
+        //최소 지연시간은 일정 표본마다 새로 측정해서 부하 패턴 변화를 따라감
+        windowMinRttNanos = Math.min(windowMinRttNanos, rttNanos);
+        if (++windowSamples >= MIN_RTT_WINDOW || minRttNanos == Long.MAX_VALUE) {
+            minRttNanos = windowMinRttNanos;
+            windowMinRttNanos = Long.MAX_VALUE;
+            windowSamples = 0;
+        }
+
+        double current = limit;
+        samplesSinceDecrease++;
+        if (rttNanos > minRttNanos * tolerance || rttNanos > maxLatencyNanos) {
+            //한도만큼 표본이 쌓이기 전에는 다시 줄이지 않음, 한 번의 혼잡에 여러 번 줄지 않도록 함
+            if (samplesSinceDecrease >= current) {
+                limit = Math.max(minLimit, current * backoff);
+                samplesSinceDecrease = 0;
+            }
+        } else if (inFlightAtStart * 2 >= current) {
+            //한도의 절반 이상을 실제로 쓰고 있을 때만 올림
+            limit = Math.min(maxLimit, current + 1 / current);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
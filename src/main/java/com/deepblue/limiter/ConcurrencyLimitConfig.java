@@ -0,0 +1,86 @@
+package com.deepblue.limiter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 동시 처리 한도 필터를 만듭니다. 필터는 SecurityConfig의 필터체인에 들어가므로 서블릿 필터로는 등록하지 않습니다.
+ * 비용이 큰 로그인, 회원가입 경로는 별도 그룹으로 묶어서 나머지 요청과 한도를 나눠 씁니다. 중복검사 같은 가벼운 /members/* 요청은 기본 그룹에 둡니다.
+ * @since 2026-10-18
+ */
+@Configuration
+public class ConcurrencyLimitConfig {
+
+    @Value("${concurrency-limit.expensive.paths:/login,/members}")
+    private List<String> expensivePaths;
+    @Value("${concurrency-limit.expensive.initial-limit:20}")
+    private int expensiveInitialLimit;
+    @Value("${concurrency-limit.expensive.max-limit:200}")
+    private int expensiveMaxLimit;
+    @Value("${concurrency-limit.expensive.max-latency:2s}")
+    private Duration expensiveMaxLatency;
+
+    @Value("${concurrency-limit.default.initial-limit:100}")
+    private int defaultInitialLimit;
+    @Value("${concurrency-limit.default.max-limit:1000}")
+    private int defaultMaxLimit;
+    @Value("${concurrency-limit.default.max-latency:500ms}")
+    private Duration defaultMaxLatency;
+
+    @Value("${concurrency-limit.min-limit:2}")
+    private int minLimit;
+    @Value("${concurrency-limit.tolerance:2.0}")
+    private double tolerance;
+    @Value("${concurrency-limit.backoff:0.9}")
+    private double backoff;
+    @Value("${concurrency-limit.retry-after:1s}")
+    private Duration retryAfter;
+    @Value("${concurrency-limit.exclude-paths:/posts/likes/stream,/export/**,/actuator/**}")
+    private List<String> excludePaths;
+
+    @Bean
+    public AdaptiveConcurrencyLimitFilter adaptiveConcurrencyLimitFilter(ObjectMapper objectMapper,
+                                                                         MeterRegistry meterRegistry) throws IOException {
+        AdaptiveConcurrencyLimiter expensive = register(meterRegistry, new AdaptiveConcurrencyLimiter("expensive",
+                expensiveInitialLimit, minLimit, expensiveMaxLimit, tolerance, backoff, expensiveMaxLatency.toMillis()));
+        AdaptiveConcurrencyLimiter defaultLimiter = register(meterRegistry, new AdaptiveConcurrencyLimiter("default",
+                defaultInitialLimit, minLimit, defaultMaxLimit, tolerance, backoff, defaultMaxLatency.toMillis()));
+
+        Map<String, AdaptiveConcurrencyLimiter> groups = new LinkedHashMap<>();
+        for (String path : expensivePaths) {
+            groups.put(path, expensive);
+        }
+        return new AdaptiveConcurrencyLimitFilter(groups, defaultLimiter, excludePaths,
+                Math.max(1, retryAfter.getSeconds()), objectMapper, meterRegistry);
+    }
+
+    //보안 필터체인에서만 실행되도록 서블릿 필터 자동등록을 막음
+    @Bean
+    public FilterRegistrationBean<AdaptiveConcurrencyLimitFilter> adaptiveConcurrencyLimitFilterRegistration(
+            AdaptiveConcurrencyLimitFilter filter) {
+        FilterRegistrationBean<AdaptiveConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    private static AdaptiveConcurrencyLimiter register(MeterRegistry meterRegistry, AdaptiveConcurrencyLimiter limiter) {
+        Gauge.builder("http.server.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("group", limiter.getName())
+                .register(meterRegistry);
+        Gauge.builder("http.server.concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .tag("group", limiter.getName())
+                .register(meterRegistry);
+        return limiter;
+    }
+}
@@ -0,0 +1,22 @@
+package com.deepblue.monitor;
+
+import org.hibernate.EmptyInterceptor;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+
+/**
+ * 엔티티가 로드될 때마다 현재 요청의 SqlStatementStats에 기록합니다.
+ * @since 2026-10-18
+ */
+public class EntityLoadCountingInterceptor extends EmptyInterceptor {
+
+    @Override
+    public boolean onLoad(Object entity, Serializable id, Object[] state, String[] propertyNames, Type[] types) {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null) {
+            stats.recordEntityLoaded();
+        }
+        return false;
+    }
+}
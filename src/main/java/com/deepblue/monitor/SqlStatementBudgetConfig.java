@@ -0,0 +1,25 @@
+package com.deepblue.monitor;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요청별 SQL 집계에 필요한 Hibernate 확장을 등록합니다. sql-budget.enabled가 true인 환경에서만 동작합니다.
+ * @since 2026-10-18
+ */
+@Configuration
+@ConditionalOnProperty(name = "sql-budget.enabled", havingValue = "true")
+public class SqlStatementBudgetConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementBudgetCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCountingInspector());
+            properties.put(AvailableSettings.INTERCEPTOR, new EntityLoadCountingInterceptor());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTimingSessionListener.class.getName());
+        };
+    }
+}
@@ -0,0 +1,105 @@
+package com.deepblue.monitor;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행된 SQL 문장 수, 로드한 엔티티 수, JDBC 실행시간을 응답 헤더와 메트릭으로 남겨줍니다.
+ * 같은 모양의 SQL이 반복되면 N+1 쿼리로 의심하고 경고 로그를 남깁니다.
+ * 헤더를 붙이기 위해 응답 본문을 버퍼링하므로 스트리밍 응답 경로는 exclude-paths로 제외합니다.
+ * @since 2026-10-18
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "sql-budget.enabled", havingValue = "true")
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENT_COUNT_HEADER = "X-Sql-Statement-Count";
+    public static final String ENTITY_COUNT_HEADER = "X-Sql-Entities-Loaded";
+    public static final String JDBC_TIME_HEADER = "X-Sql-Jdbc-Time-Micros";
+    public static final String N_PLUS_ONE_HEADER = "X-Sql-N-Plus-One";
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final MeterRegistry meterRegistry;
+    private final int repeatThreshold;
+    private final List<String> excludePaths;
+
+    public SqlStatementBudgetFilter(MeterRegistry meterRegistry,
+                                    @Value("${sql-budget.repeat-threshold:3}") int repeatThreshold,
+                                    @Value("${sql-budget.exclude-paths:/export/**,/posts/likes/stream}") List<String> excludePaths) {
+        this.meterRegistry = meterRegistry;
+        this.repeatThreshold = repeatThreshold;
+        this.excludePaths = excludePaths;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return excludePaths.stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        SqlStatementStats stats = SqlStatementStats.begin();
+        try {
+            chain.doFilter(request, wrapper);
+        } finally {
+            SqlStatementStats.end();
+            report(request, wrapper, stats);
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void report(HttpServletRequest request, HttpServletResponse response, SqlStatementStats stats) {
+        Map<String, Integer> repeated = stats.getRepeatedShapes(repeatThreshold);
+
+        response.setHeader(STATEMENT_COUNT_HEADER, Integer.toString(stats.getStatements()));
+        response.setHeader(ENTITY_COUNT_HEADER, Integer.toString(stats.getEntitiesLoaded()));
+        response.setHeader(JDBC_TIME_HEADER, Long.toString(TimeUnit.NANOSECONDS.toMicros(stats.getJdbcNanos())));
+        response.setHeader(N_PLUS_ONE_HEADER, Integer.toString(repeated.size()));
+
+        //핸들러가 매핑된 경우 URI 패턴으로 묶어서 메트릭 태그 수가 늘어나지 않도록 함
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        DistributionSummary.builder("http.server.sql.statements")
+                .tags("uri", uri, "method", method)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        DistributionSummary.builder("http.server.sql.entities")
+                .tags("uri", uri, "method", method)
+                .register(meterRegistry)
+                .record(stats.getEntitiesLoaded());
+        Timer.builder("http.server.sql.jdbc")
+                .tags("uri", uri, "method", method)
+                .register(meterRegistry)
+                .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (!repeated.isEmpty()) {
+            meterRegistry.counter("http.server.sql.n-plus-one", "uri", uri, "method", method).increment();
+            repeated.forEach((shape, count) ->
+                    log.warn("N+1 쿼리가 의심됩니다. {} {} 에서 {}회 반복: {}", method, uri, count, shape));
+        }
+    }
+}
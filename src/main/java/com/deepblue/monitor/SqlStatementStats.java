@@ -0,0 +1,91 @@
+package com.deepblue.monitor;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 하나가 실행한 SQL 문장 수, 로드한 엔티티 수, JDBC 실행시간을 모아두는 객체입니다.
+ * 요청 스레드의 ThreadLocal에 묶여있으며, 요청 밖(배치, 백그라운드 스레드)에서 실행된 SQL은 집계하지 않습니다.
+ * @since 2026-10-18
+ */
+public final class SqlStatementStats {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("in \\(\\?(?: ?, ?\\?)*\\)");
+
+    private int statements;
+    private int entitiesLoaded;
+    private long jdbcNanos;
+    private final Map<String, Integer> shapes = new HashMap<>();
+
+    public static SqlStatementStats begin() {
+        SqlStatementStats stats = new SqlStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void recordStatement(String sql) {
+        statements++;
+        shapes.merge(shapeOf(sql), 1, Integer::sum);
+    }
+
+    void recordEntityLoaded() {
+        entitiesLoaded++;
+    }
+
+    void recordJdbcNanos(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getEntitiesLoaded() {
+        return entitiesLoaded;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    /**
+     * 같은 모양의 SQL이 threshold번 이상 반복된 목록을 반환해줍니다. N+1 쿼리 후보입니다.
+     * @param threshold 반복 횟수 기준
+     * @return SQL 모양과 반복 횟수
+     * @since 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    public Map<String, Integer> getRepeatedShapes(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        shapes.forEach((shape, count) -> {
+            if (count >= threshold) {
+                repeated.put(shape, count);
+            }
+        });
+        return repeated.isEmpty() ? Collections.emptyMap() : repeated;
+    }
+
+    //리터럴과 IN 목록 길이를 지워서 파라미터만 다른 SQL을 같은 모양으로 묶음
+    static String shapeOf(String sql) {
+        String shape = WHITESPACE.matcher(sql.trim().toLowerCase()).replaceAll(" ");
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        return IN_LIST.matcher(shape).replaceAll("in (?)");
+    }
+}
@@ -0,0 +1,41 @@
+package com.deepblue.monitor;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * 세션마다 생성되어 JDBC 문장과 배치 실행시간을 현재 요청의 SqlStatementStats에 더합니다.
+ * hibernate.session.events.auto 설정으로 등록되므로 기본 생성자가 필요합니다.
+ * @since 2026-10-18
+ */
+public class SqlTimingSessionListener extends BaseSessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record(System.nanoTime() - batchStart);
+    }
+
+    private static void record(long nanos) {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null) {
+            stats.recordJdbcNanos(nanos);
+        }
+    }
+}
@@ -1,12 +1,24 @@
 package com.deepblue.repository;
 
 import com.deepblue.domain.Member;
+import com.deepblue.dto.MemberExportRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByUsername(String username);
+
+    //비밀번호와 권한을 제외한 회원정보를 고정된 fetch size로 한 행씩 읽어옴, 반드시 트랜잭션 안에서 닫아야 함
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.deepblue.dto.MemberExportRow(m.id, m.username) from Member m order by m.id")
+    Stream<MemberExportRow> streamExportRows();
 }
@@ -1,7 +1,59 @@
 package com.deepblue.repository;
 
 import com.deepblue.domain.Post;
+import com.deepblue.dto.PostLikeCount;
+import com.deepblue.dto.PostVersion;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.QueryHint;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
+
+    //좋아요 수를 DB에서 직접 1 증가시킴, 응답 본문이 바뀌므로 버전도 함께 올림
+    @Modifying(clearAutomatically = true)
+    @Query("update Post p set p.likeCnt = p.likeCnt + 1, p.version = p.version + 1 where p.id = :postId")
+    int increaseLikeCnt(@Param("postId") Long postId);
+
+    //회원이 이미 좋아요를 누른 게시글인지 확인
+    @Query(value = "select count(*) from post_like where post_id = :postId and username = :username", nativeQuery = true)
+    long countLike(@Param("postId") Long postId, @Param("username") String username);
+
+    //좋아요 기록, 같은 회원의 중복 좋아요는 기본키 위반으로 실패
+    @Modifying
+    @Query(value = "insert into post_like (post_id, username) values (:postId, :username)", nativeQuery = true)
+    int insertLike(@Param("postId") Long postId, @Param("username") String username);
+
+    //본문을 읽지 않고 좋아요 수만 조회
+    @Query("select p.likeCnt from Post p where p.id = :postId")
+    Optional<Integer> findLikeCntById(@Param("postId") Long postId);
+
+    //좋아요 수 내림차순으로 게시글ID와 좋아요 수만 조회
+    @Query("select p.id as id, p.likeCnt as likeCnt from Post p order by p.likeCnt desc, p.id desc")
+    List<PostLikeCount> findLikeCounts(Pageable pageable);
+
+    //본문을 읽지 않고 버전만 조회
+    @Query("select p.version from Post p where p.id = :postId")
+    Optional<Long> findVersionById(@Param("postId") Long postId);
+
+    //피드 순서대로 게시글ID와 버전만 조회
+    @Query("select p.id as id, p.version as version from Post p order by p.id desc")
+    List<PostVersion> findVersions(Pageable pageable);
+
+    List<Post> findByIdInOrderByIdDesc(List<Long> ids);
+
+    //전체 게시글을 고정된 fetch size로 한 행씩 읽어옴, 반드시 트랜잭션 안에서 닫아야 함
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("select p from Post p order by p.id")
+    Stream<Post> streamAll();
 }
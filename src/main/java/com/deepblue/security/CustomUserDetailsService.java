@@ -2,25 +2,45 @@ package com.deepblue.security;
 
 import com.deepblue.domain.Member;
 import com.deepblue.repository.MemberRepository;
-import lombok.RequiredArgsConstructor;
+import com.deepblue.singleflight.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
 
 @Service
-@RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final SingleFlight<String, Optional<UserDetails>> userLookups;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public CustomUserDetailsService(MemberRepository memberRepository, PasswordEncoder passwordEncoder,
+                                    PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                                    @Value("${single-flight.stripes:16}") int stripes) {
+        this.memberRepository = memberRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.userLookups = new SingleFlight<>("member.user-details", stripes, meterRegistry);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return memberRepository.findByUsername(username)
-                .map(this::createUserDetails)
+        //같은 회원명으로 동시에 들어온 로그인은 조회 하나를 나눠씀, 트랜잭션은 조회하는 호출만 열어서 기다리는 호출은 커넥션을 잡지 않음
+        //인증 후 비밀번호를 지우는 eraseCredentials가 다른 요청에 영향을 주지 않도록 요청마다 복사본을 반환
+        return userLookups.execute(username, () -> readOnlyTransaction.execute(
+                        status -> memberRepository.findByUsername(username).map(this::createUserDetails)))
+                .map(shared -> User.withUserDetails(shared).build())
                 .orElseThrow(() -> new UsernameNotFoundException("해당하는 유저가 없습니다"));
     }
 
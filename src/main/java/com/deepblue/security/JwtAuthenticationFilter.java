@@ -1,5 +1,7 @@
 package com.deepblue.security;
 
+import com.deepblue.jfr.JfrEvents;
+import com.deepblue.jfr.TokenValidationEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -26,13 +28,37 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
         String token = resolveToken((HttpServletRequest) request);
 
         //헤더에 jwt토큰값이 있으며 검증이 되었다면 컨텍스트에 인증객체 설정
-        if(token != null && jwtTokenProvider.validateToken(token)){
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if(token != null){
+            authenticate(token);
         }
         chain.doFilter(request, response);
     }
 
+    //토큰 검증 구간을 JFR 이벤트로 기록, 기록이 꺼져있으면 begin, end 외에 비용이 없음
+    private void authenticate(String token) {
+        TokenValidationEvent event = new TokenValidationEvent();
+        event.begin();
+        Authentication authentication = null;
+        String outcome = "INVALID";
+        try {
+            if(jwtTokenProvider.validateToken(token)){
+                authentication = jwtTokenProvider.getAuthentication(token);
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                outcome = JfrEvents.SUCCESS;
+            }
+        }catch (RuntimeException e){
+            outcome = JfrEvents.outcomeOf(e);
+            throw e;
+        }finally {
+            event.end();
+            if(event.shouldCommit()){
+                event.outcome = outcome;
+                event.usernameHash = authentication != null ? JfrEvents.hashUsername(authentication.getName()) : null;
+                event.commit();
+            }
+        }
+    }
+
     //헤더에 있는 토큰값 추출
     private String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
@@ -1,5 +1,7 @@
 package com.deepblue.security;
 
+import com.deepblue.jfr.JfrEvents;
+import com.deepblue.jfr.TokenSigningEvent;
 import com.deepblue.security.TokenInfo;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
@@ -34,6 +36,20 @@ public class JwtTokenProvider {
 
     //토큰DTO 생성
     public TokenInfo generateToken(Authentication authentication){
+        TokenSigningEvent event = new TokenSigningEvent();
+        event.begin();
+        Throwable failure = null;
+        try {
+            return signTokens(authentication);
+        }catch (RuntimeException e){
+            failure = e;
+            throw e;
+        }finally {
+            commit(event, "ACCESS_REFRESH", authentication.getName(), failure);
+        }
+    }
+
+    private TokenInfo signTokens(Authentication authentication){
 
         //인증 객체에서 권한 추출
         String authorities = authentication.getAuthorities().stream()
@@ -67,6 +83,20 @@ public class JwtTokenProvider {
     }
 
     public TokenInfo recreateAccessToken(String username, String refreshToken){
+        TokenSigningEvent event = new TokenSigningEvent();
+        event.begin();
+        Throwable failure = null;
+        try {
+            return signAccessToken(username, refreshToken);
+        }catch (RuntimeException e){
+            failure = e;
+            throw e;
+        }finally {
+            commit(event, "ACCESS", username, failure);
+        }
+    }
+
+    private TokenInfo signAccessToken(String username, String refreshToken){
         long now = new Date().getTime();
 
         String accessToken = Jwts.builder()
@@ -83,6 +113,17 @@ public class JwtTokenProvider {
                 .build();
     }
 
+    //서명 구간 JFR 이벤트 기록, 기록이 꺼져있으면 값을 만들지 않음
+    private static void commit(TokenSigningEvent event, String tokenType, String username, Throwable failure){
+        event.end();
+        if(event.shouldCommit()){
+            event.tokenType = tokenType;
+            event.outcome = JfrEvents.outcomeOf(failure);
+            event.usernameHash = JfrEvents.hashUsername(username);
+            event.commit();
+        }
+    }
+
     //토큰에서 인증객체를 얻어냄
     public Authentication getAuthentication(String accessToken){
 
@@ -7,16 +7,19 @@ import lombok.NoArgsConstructor;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
 
 @Data
 @Entity
 @NoArgsConstructor
+@SequenceGenerator(name = "refresh_token_seq_generator", sequenceName = "refresh_token_seq", allocationSize = 50)
 public class RefreshToken {
-    @Id @GeneratedValue
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_token_seq_generator")
     @Column(name = "token_id")
     private Long id;
-    @Column(length = 10000)
+    @Column(length = 512) //인덱스를 걸 수 있는 길이, JWT 리프레쉬토큰은 200자 안팎
     private String digest;
 
     public RefreshToken(String digest) {
@@ -1,8 +1,10 @@
 package com.deepblue.security;
 
+import com.deepblue.limiter.AdaptiveConcurrencyLimitFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -18,6 +20,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final AdaptiveConcurrencyLimitFilter adaptiveConcurrencyLimitFilter;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception{
@@ -31,10 +34,16 @@ public class SecurityConfig {
                 .and()
                 .authorizeRequests()
                 .antMatchers("/test").hasRole("USER")
+                .antMatchers("/posts/trending/rebuild").hasRole("USER")
+                .antMatchers("/export/**").hasRole("USER")
+                .antMatchers(HttpMethod.PUT, "/posts/**").hasRole("USER")
+                .antMatchers(HttpMethod.POST, "/posts/*/like").hasRole("USER")
                 .anyRequest().permitAll()
                 .and()
                 //UsernamePasswordAuthenticationFilter 앞에 jwt필터를 추가
                 .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class)
+                //토큰 검증 전에 동시 처리 한도를 넘은 요청을 돌려보냄
+                .addFilterBefore(adaptiveConcurrencyLimitFilter, JwtAuthenticationFilter.class)
                 .build();
     }
 
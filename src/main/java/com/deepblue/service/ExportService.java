@@ -0,0 +1,121 @@
+package com.deepblue.service;
+
+import com.deepblue.domain.Post;
+import com.deepblue.dto.MemberExportRow;
+import com.deepblue.dto.PostDto;
+import com.deepblue.repository.MemberRepository;
+import com.deepblue.repository.PostRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 게시글과 회원 전체를 응답 스트림으로 내보내주는 서비스객체입니다.
+ * 전체 결과를 메모리에 올리지 않고 한 행씩 읽어서 바로 쓰며,
+ * 일정 행마다 영속성 컨텍스트를 비워서 행 수와 관계없이 힙 사용량이 일정하게 유지됩니다.
+ * @since 2026-10-18
+ */
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private final PostRepository postRepository;
+    private final MemberRepository memberRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 전체 게시글을 전달받은 형식으로 내보냅니다.
+     * @param format 내보낼 형식
+     * @param out 내보낼 스트림
+     * @return 내보낸 행 수
+     * @since 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    @Transactional(readOnly = true)
+    public long exportPosts(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<Post> posts = postRepository.streamAll()) {
+            return write(posts.map(PostDto::new), format, out,
+                    new String[]{"id", "content", "likeCnt", "version"},
+                    post -> new Object[]{post.getId(), post.getContent(), post.getLikeCnt(), post.getVersion()});
+        }
+    }
+
+    /**
+     * 비밀번호를 제외한 전체 회원정보를 전달받은 형식으로 내보냅니다.
+     * @param format 내보낼 형식
+     * @param out 내보낼 스트림
+     * @return 내보낸 행 수
+     * @since 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    @Transactional(readOnly = true)
+    public long exportMembers(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<MemberExportRow> members = memberRepository.streamExportRows()) {
+            return write(members, format, out,
+                    new String[]{"id", "username"},
+                    member -> new Object[]{member.getId(), member.getUsername()});
+        }
+    }
+
+    private <T> long write(Stream<T> rows, ExportFormat format, OutputStream out,
+                           String[] header, Function<T, Object[]> columns) throws IOException {
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(out, header);
+        }
+
+        long count = 0;
+        Iterator<T> it = rows.iterator();
+        while (it.hasNext()) {
+            T row = it.next();
+            if (format == ExportFormat.CSV) {
+                writeCsvLine(out, columns.apply(row));
+            } else {
+                out.write(objectMapper.writeValueAsBytes(row));
+                out.write('\n');
+            }
+
+            //일정 행마다 클라이언트로 내보내고 영속성 컨텍스트를 비움
+            if (++count % FLUSH_INTERVAL == 0) {
+                out.flush();
+                entityManager.clear();
+            }
+        }
+        out.flush();
+        return count;
+    }
+
+    private static void writeCsvLine(OutputStream out, Object[] values) throws IOException {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            line.append(escapeCsv(values[i]));
+        }
+        line.append("\r\n");
+        out.write(line.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,182 @@
+package com.deepblue.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.servlet.AsyncContext;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 좋아요 수 변화를 SSE 구독자들에게 전파해주는 서비스객체입니다.
+ * 변화량은 게시글별로 coalesce-interval 동안 합쳐지고, 전파 스레드 하나가 모든 구독자에게 논블로킹으로 씁니다.
+ * 연결마다 스레드를 점유하지 않으므로 동시 구독자 수는 Tomcat 최대 연결 수에 의해서만 제한됩니다.
+ * @since 2026-10-18
+ */
+@Service
+@Slf4j
+public class LikeCountBroadcaster {
+
+    private final ConcurrentHashMap<Long, AtomicLong> pendingDeltas = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Set<LikeCountSubscriber>> subscribersByPost = new ConcurrentHashMap<>();
+    private final Set<LikeCountSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final long intervalMillis;
+    private final long heartbeatMillis;
+    private final long stallTimeoutMillis;
+    private final long maxDurationMillis;
+    private final int maxSubscribers;
+
+    private ScheduledExecutorService fanOut;
+    private long lastHeartbeat; //전파 스레드에서만 접근
+
+    public LikeCountBroadcaster(@Value("${like-stream.coalesce-interval:500ms}") Duration interval,
+                                @Value("${like-stream.heartbeat-interval:15s}") Duration heartbeat,
+                                @Value("${like-stream.stall-timeout:10s}") Duration stallTimeout,
+                                @Value("${like-stream.max-duration:30m}") Duration maxDuration,
+                                @Value("${like-stream.max-subscribers:50000}") int maxSubscribers) {
+        this.intervalMillis = interval.toMillis();
+        this.heartbeatMillis = heartbeat.toMillis();
+        this.stallTimeoutMillis = stallTimeout.toMillis();
+        this.maxDurationMillis = maxDuration.toMillis();
+        this.maxSubscribers = maxSubscribers;
+    }
+
+    @PostConstruct
+    public void start() {
+        fanOut = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "like-count-fan-out");
+            thread.setDaemon(true);
+            return thread;
+        });
+        fanOut.scheduleWithFixedDelay(this::tick, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        fanOut.shutdownNow();
+        subscribers.forEach(LikeCountSubscriber::close);
+    }
+
+    /**
+     * 게시글 좋아요 수 변화를 다음 전파 주기에 보낼 변화량에 더합니다. 구독자가 없는 게시글은 무시합니다.
+     * @param postId 좋아요 수가 바뀐 게시글ID
+     * @param delta 좋아요 변화량
+     * @since 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    public void onLikeChanged(Long postId, int delta) {
+        //구독자 확인과 변화량 추가를 게시글 단위로 원자적으로 처리해서 unsubscribe가 지운 변화량이 다시 생기지 않도록 함
+        subscribersByPost.computeIfPresent(postId, (id, set) -> {
+            pendingDeltas.computeIfAbsent(id, key -> new AtomicLong()).addAndGet(delta);
+            return set;
+        });
+    }
+
+    /**
+     * 요청을 비동기로 전환하고 전달받은 게시글들의 좋아요 수 변화를 구독합니다.
+     * @param postIds 구독할 게시글ID 목록
+     * @param request SSE 요청
+     * @param response SSE 응답
+     * @return 구독에 성공하면 true, 구독자 수가 가득 찼으면 false
+     * @since 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    public boolean subscribe(Set<Long> postIds, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (subscribers.size() >= maxSubscribers) {
+            return false;
+        }
+
+        response.setContentType("text/event-stream");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Cache-Control", "no-cache");
+        response.setHeader("X-Accel-Buffering", "no");
+
+        AsyncContext asyncContext = request.startAsync();
+        asyncContext.setTimeout(maxDurationMillis); //끊기면 EventSource가 다시 연결
+        LikeCountSubscriber subscriber = new LikeCountSubscriber(asyncContext, postIds);
+        try {
+            subscriber.start();
+        } catch (IOException e) {
+            subscriber.close();
+            throw e;
+        }
+
+        //첫 줄을 보낸 뒤에 전파 스레드에 넘김
+        subscribers.add(subscriber);
+        for (Long postId : postIds) {
+            //구독자 추가를 매핑 갱신과 한 번에 처리해서 unsubscribe가 지운 집합에 들어가지 않도록 함
+            subscribersByPost.compute(postId, (id, set) -> {
+                if (set == null) {
+                    set = ConcurrentHashMap.newKeySet();
+                }
+                set.add(subscriber);
+                return set;
+            });
+        }
+        return true;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private void tick() {
+        try {
+            long now = System.currentTimeMillis();
+
+            //게시글별로 합쳐진 변화량을 구독자별 대기열로 옮김
+            for (Map.Entry<Long, AtomicLong> entry : pendingDeltas.entrySet()) {
+                long delta = entry.getValue().getAndSet(0);
+                if (delta == 0) {
+                    continue;
+                }
+                Set<LikeCountSubscriber> postSubscribers = subscribersByPost.get(entry.getKey());
+                if (postSubscribers != null) {
+                    for (LikeCountSubscriber subscriber : postSubscribers) {
+                        subscriber.enqueue(entry.getKey(), delta);
+                    }
+                }
+            }
+
+            boolean heartbeat = now - lastHeartbeat >= heartbeatMillis;
+            if (heartbeat) {
+                lastHeartbeat = now;
+            }
+            for (LikeCountSubscriber subscriber : subscribers) {
+                if (!subscriber.flush(now, heartbeat, stallTimeoutMillis)) {
+                    unsubscribe(subscriber);
+                }
+            }
+        } catch (RuntimeException e) {
+            //예외로 스케줄이 멈추지 않도록 기록만 남김
+            log.warn("좋아요 수 전파 중 오류가 발생했습니다", e);
+        }
+    }
+
+    private void unsubscribe(LikeCountSubscriber subscriber) {
+        subscribers.remove(subscriber);
+        for (Long postId : subscriber.getPostIds()) {
+            subscribersByPost.computeIfPresent(postId, (id, set) -> {
+                set.remove(subscriber);
+                if (!set.isEmpty()) {
+                    return set;
+                }
+                pendingDeltas.remove(id);
+                return null;
+            });
+        }
+    }
+}
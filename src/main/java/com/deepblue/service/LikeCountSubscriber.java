@@ -0,0 +1,153 @@
+package com.deepblue.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 좋아요 수 변화를 구독중인 SSE 연결 하나입니다.
+ * 논블로킹 출력 모드로 동작하며, 쓰기는 LikeCountBroadcaster의 전파 스레드에서만 진행합니다.
+ * 소켓이 쓰기 가능하지 않으면 변화량을 게시글별로 합쳐두었다가 다음 주기에 보냅니다.
+ * @since 2026-10-18
+ */
+@Slf4j
+class LikeCountSubscriber implements WriteListener, AsyncListener {
+
+    private static final byte[] HEARTBEAT = ":\n\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] CONNECTED = ": connected\n\n".getBytes(StandardCharsets.UTF_8);
+
+    private final AsyncContext asyncContext;
+    private final ServletOutputStream out;
+    private final Set<Long> postIds;
+
+    //전파 스레드에서만 접근
+    private final Map<Long, Long> pending = new HashMap<>();
+    private long stalledSince = -1;
+
+    private volatile boolean closed;
+
+    LikeCountSubscriber(AsyncContext asyncContext, Set<Long> postIds) throws IOException {
+        this.asyncContext = asyncContext;
+        this.out = asyncContext.getResponse().getOutputStream();
+        this.postIds = postIds;
+    }
+
+    //논블로킹 모드로 바꾸기 전에 첫 줄을 보내서 응답 헤더를 바로 커밋, EventSource가 open을 받고 프록시가 끊지 않도록 함
+    void start() throws IOException {
+        out.write(CONNECTED);
+        out.flush();
+        asyncContext.addListener(this);
+        out.setWriteListener(this);
+    }
+
+    Set<Long> getPostIds() {
+        return postIds;
+    }
+
+    void enqueue(Long postId, long delta) {
+        pending.merge(postId, delta, Long::sum);
+    }
+
+    /**
+     * 합쳐둔 변화량을 보냅니다. 보낼 게 없으면 heartbeat일 때만 주석 한 줄을 보냅니다.
+     * @param now 현재 시각(ms)
+     * @param heartbeat heartbeat를 보낼 차례인지 여부
+     * @param stallTimeoutMillis 쓰기 불가 상태가 이 시간을 넘으면 연결을 끊음
+     * @return 연결이 유지되면 true, 끊었으면 false
+     */
+    boolean flush(long now, boolean heartbeat, long stallTimeoutMillis) {
+        if (closed) {
+            return false;
+        }
+        if (pending.isEmpty() && !heartbeat) {
+            return true;
+        }
+        try {
+            if (!out.isReady()) {
+                //느린 구독자, 변화량은 계속 합쳐두고 일정 시간 넘게 막혀있으면 끊음
+                if (stalledSince < 0) {
+                    stalledSince = now;
+                } else if (now - stalledSince > stallTimeoutMillis) {
+                    log.debug("느린 구독자의 연결을 끊습니다");
+                    close();
+                    return false;
+                }
+                return true;
+            }
+            stalledSince = -1;
+
+            out.write(pending.isEmpty() ? HEARTBEAT : toEvent());
+            pending.clear();
+            if (out.isReady()) {
+                out.flush();
+            }
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            close();
+            return false;
+        }
+    }
+
+    void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            asyncContext.complete();
+        } catch (IllegalStateException ignored) {
+            //이미 완료된 요청
+        }
+    }
+
+    private byte[] toEvent() {
+        StringBuilder sb = new StringBuilder("event: likes\ndata: {");
+        boolean first = true;
+        for (Map.Entry<Long, Long> entry : pending.entrySet()) {
+            if (!first) {
+                sb.append(',');
+            }
+            sb.append('"').append(entry.getKey()).append("\":").append(entry.getValue());
+            first = false;
+        }
+        return sb.append("}\n\n").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void onWritePossible() {
+        //쓰기는 전파 스레드가 다음 주기에 진행
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        closed = true;
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+        closed = true;
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+        closed = true;
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+}
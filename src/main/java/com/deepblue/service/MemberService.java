@@ -1,52 +1,84 @@
 package com.deepblue.service;
 
-import com.deepblue.domain.Member;
+import com.deepblue.jfr.JfrEvents;
+import com.deepblue.jfr.PasswordCheckEvent;
 import com.deepblue.repository.MemberRepository;
+import com.deepblue.repository.RefreshTokenRepository;
 import com.deepblue.security.JwtTokenProvider;
 import com.deepblue.security.TokenInfo;
+import com.deepblue.singleflight.SingleFlight;
 import io.jsonwebtoken.Claims;
-import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
-import java.util.Optional;
-
 
 /**
  * 회원과 관련된 로직을 처리해주는 서비스객체입니다.
+ * 회원명 중복검사와 리프레쉬토큰 조회는 같은 값으로 동시에 들어온 요청끼리 DB 조회 하나를 나눠씁니다.
+ * 트랜잭션은 실제로 조회하는 호출만 열어서, 결과를 기다리는 호출이 DB 커넥션을 잡고 있지 않도록 합니다.
  * @since : 2023-02-16
  */
 @Service
-@RequiredArgsConstructor
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
     private final AuthenticationManagerBuilder managerBuilder;
     private final JwtTokenProvider jwtTokenProvider;
     private final PasswordEncoder passwordEncoder;
+    private final SingleFlight<String, Boolean> usernameLookups;
+    private final SingleFlight<String, Boolean> refreshTokenLookups;
+    private final TransactionTemplate readOnlyTransaction;
     private int a = 1;
     private int b = 2;
 
+    public MemberService(MemberRepository memberRepository, RefreshTokenRepository refreshTokenRepository,
+                         AuthenticationManagerBuilder managerBuilder, JwtTokenProvider jwtTokenProvider,
+                         PasswordEncoder passwordEncoder, PlatformTransactionManager transactionManager,
+                         MeterRegistry meterRegistry,
+                         @Value("${single-flight.stripes:16}") int stripes) {
+        this.memberRepository = memberRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.managerBuilder = managerBuilder;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.passwordEncoder = passwordEncoder;
+        this.usernameLookups = new SingleFlight<>("member.username", stripes, meterRegistry);
+        this.refreshTokenLookups = new SingleFlight<>("refresh-token.digest", stripes, meterRegistry);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
     /**
      * 전달받은 회원명의 회원이 DB에 있는지 확인 후 중복여부를 반환해줍니다.
      * @param username 검사할 회원명
      * @return 중복일 경우 false, 중복이 아닐 경우 true
      * @since : 2023-02-16
-     * @lastModified : 2023-02-16
+     * @lastModified : 2026-10-18
      */
-    @Transactional(readOnly = true)
     public boolean isDuplicateUsername(String username){
-        Optional<Member> findMember = memberRepository.findByUsername(username);
+        return usernameLookups.execute(username, () -> readOnlyTransaction.execute(
+                status -> memberRepository.findByUsername(username).isPresent()));
+    }
 
-        if(findMember.isPresent())
-            return true;
-        else
-            return false;
+    /**
+     * 전달받은 리프레쉬토큰이 DB에 저장되어 있는지 확인합니다.
+     * @param refreshToken 확인할 리프레쉬토큰
+     * @return 저장되어 있으면 true, 없으면 false
+     * @since : 2026-10-18
+     * @lastModified : 2026-10-18
+     */
+    public boolean isStoredRefreshToken(String refreshToken){
+        return refreshTokenLookups.execute(refreshToken, () -> readOnlyTransaction.execute(
+                status -> refreshTokenRepository.findByDigest(refreshToken).isPresent()));
     }
 
     /**
@@ -55,17 +87,51 @@ public class MemberService {
      * @param password 로그인 시도 비밀번호
      * @return 액세스 토큰, 리프레쉬 토큰, 인가 타입이 담긴 DTO
      * @since : 2023-02-17
-     * @lastModified : 2023-02-17
+     * @lastModified : 2026-10-18
      */
-    @Transactional(readOnly = true)
     public TokenInfo login(String username, String password){
+        //트랜잭션은 CustomUserDetailsService가 회원을 조회할 때만 열림
         UsernamePasswordAuthenticationToken authenticationToken
                 = new UsernamePasswordAuthenticationToken(username, password);
-        Authentication authentication = managerBuilder.getObject().authenticate(authenticationToken);
+
+        //회원 조회와 비밀번호 검증 구간을 JFR 이벤트로 기록
+        PasswordCheckEvent event = new PasswordCheckEvent();
+        event.begin();
+        Authentication authentication;
+        Throwable failure = null;
+        try {
+            authentication = managerBuilder.getObject().authenticate(authenticationToken);
+        }catch (RuntimeException e){
+            failure = e;
+            throw e;
+        }finally {
+            event.end();
+            if(event.shouldCommit()){
+                event.outcome = JfrEvents.outcomeOf(failure);
+                event.usernameHash = JfrEvents.hashUsername(username);
+                event.commit();
+            }
+        }
+
         TokenInfo tokenInfo = jwtTokenProvider.generateToken(authentication);
         return tokenInfo;
     }
 
+    /**
+     * 서명이 올바른 토큰의 회원명을 반환해줍니다. 만료된 토큰도 회원명을 반환합니다.
+     * @param token 회원명을 꺼낼 토큰
+     * @return 토큰의 회원명, 토큰을 해석할 수 없으면 null
+     * @since : 2026-10-18
+     * @lastModified : 2026-10-18
+     */
+    public String findTokenSubject(String token){
+        try {
+            return jwtTokenProvider.parseClaims(token).getSubject();
+        }catch (JwtException | IllegalArgumentException e){
+            return null;
+        }
+    }
+
     /**
      * 리프레쉬토큰을 검증 후 액세스 토큰을 재발급해줍니다.
      * @param refreshToken 검증할 리프레쉬토큰
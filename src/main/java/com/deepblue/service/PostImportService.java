@@ -0,0 +1,273 @@
+package com.deepblue.service;
+
+import com.deepblue.domain.Post;
+import com.deepblue.dto.PostImportRecord;
+import com.deepblue.dto.PostImportResult;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * NDJSON 파일의 게시글을 대량으로 적재해주는 서비스객체입니다.
+ * 파일을 줄 단위 경계에 맞춘 청크로 나눠 메모리 매핑한 뒤 여러 스레드에서 동시에 파싱하고,
+ * 형식이 깨진 줄은 적재를 멈추지 않고 제외 건수로 셉니다.
+ * 파싱된 청크는 파일 순서대로 한 스레드가 JDBC 배치로 저장합니다.
+ * 처리한 바이트 위치는 청크를 저장하는 트랜잭션에서 post_import_checkpoint 테이블에 함께 기록하므로,
+ * 중단된 적재를 이어서 진행해도 같은 청크가 두 번 저장되지 않습니다.
+ * 체크포인트는 파일 경로, 크기, 앞부분 내용으로 구분하므로 같은 경로에 다른 파일을 두면 처음부터 적재합니다.
+ * 게시글ID는 Hibernate pooled 옵티마이저와 같은 규칙으로 post_seq 값 하나당 ID_ALLOCATION_SIZE개씩 할당받습니다.
+ * @since 2026-10-18
+ */
+@Service
+@Slf4j
+public class PostImportService {
+
+    private static final String INSERT_POST =
+            "insert into post (post_id, content, like_cnt, version) values (?, ?, ?, 0)";
+    private static final String NEXT_POST_ID = "select next value for post_seq";
+    private static final String SELECT_CHECKPOINT = "select byte_offset from post_import_checkpoint where file_key = ?";
+    private static final String UPDATE_CHECKPOINT = "update post_import_checkpoint set byte_offset = ? where file_key = ?";
+    private static final String INSERT_CHECKPOINT =
+            "insert into post_import_checkpoint (file_key, file_path, byte_offset) values (?, ?, ?)";
+    private static final int FINGERPRINT_BYTES = 1 << 20;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int MAX_CONTENT_LENGTH = 10000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectReader recordReader;
+    private final int chunkBytes;
+    private final int batchSize;
+
+    //저장 스레드에서만 접근
+    private long nextId;
+    private long maxId = -1;
+
+    public PostImportService(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, ObjectMapper objectMapper,
+                             @Value("${post-import.chunk-bytes:8388608}") int chunkBytes,
+                             @Value("${post-import.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.recordReader = objectMapper.readerFor(PostImportRecord.class);
+        this.chunkBytes = chunkBytes;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * NDJSON 파일의 게시글을 적재합니다. 같은 파일의 체크포인트가 있으면 그 위치부터 이어서 진행합니다.
+     * @param file 한 줄에 게시글 하나씩 담긴 NDJSON 파일
+     * @param parallelism 동시에 파싱할 스레드 수
+     * @return 적재 결과
+     * @since 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    public PostImportResult importPosts(Path file, int parallelism) throws IOException {
+        long start = System.currentTimeMillis();
+        long imported = 0;
+        long rejected = 0;
+
+        ExecutorService parsers = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread thread = new Thread(r, "post-import-parser");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            String fileKey = fileKey(file, channel, size);
+            long position = readCheckpoint(fileKey);
+            log.info("게시글 적재를 시작합니다. 파일: {}, 시작위치: {}/{}", file, position, size);
+
+            //파싱은 최대 parallelism * 2개 청크까지 앞서서 진행
+            Deque<Future<ParsedChunk>> inFlight = new ArrayDeque<>();
+            long next = position;
+            while (next < size || !inFlight.isEmpty()) {
+                while (next < size && inFlight.size() < parallelism * 2) {
+                    MappedByteBuffer chunk = mapChunk(channel, next, size);
+                    long end = next + chunk.limit();
+                    inFlight.add(parsers.submit(() -> parse(chunk, end)));
+                    next = end;
+                }
+
+                ParsedChunk parsed = await(inFlight.poll());
+                //게시글과 진행 위치를 한 트랜잭션으로 커밋해서 재시작해도 청크가 중복 저장되지 않음
+                transactionTemplate.executeWithoutResult(status -> {
+                    write(parsed.rows);
+                    writeCheckpoint(fileKey, file, parsed.end);
+                });
+                imported += parsed.rows.size();
+                rejected += parsed.rejected;
+            }
+        } finally {
+            parsers.shutdownNow();
+        }
+
+        PostImportResult result = new PostImportResult(imported, rejected, System.currentTimeMillis() - start);
+        log.info("게시글 적재를 마쳤습니다. 적재: {}건, 제외: {}건, 소요: {}ms, 분당 {}건",
+                result.getImported(), result.getRejected(), result.getElapsedMillis(), result.getPostsPerMinute());
+        return result;
+    }
+
+    //position부터 chunkBytes만큼 매핑하되 마지막 줄바꿈까지만 청크에 포함
+    private MappedByteBuffer mapChunk(FileChannel channel, long position, long size) throws IOException {
+        long length = Math.min(chunkBytes, size - position);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        if (position + length == size) {
+            return buffer;
+        }
+        int end = (int) length;
+        while (end > 0 && buffer.get(end - 1) != '\n') {
+            end--;
+        }
+        if (end == 0) {
+            throw new IllegalStateException("한 줄이 청크 크기보다 큽니다. 위치: " + position);
+        }
+        buffer.limit(end);
+        return buffer;
+    }
+
+    //줄 단위로 파싱해서 깨진 줄은 제외 건수로만 세고 나머지 줄은 계속 적재
+    private ParsedChunk parse(MappedByteBuffer chunk, long end) throws IOException {
+        List<Object[]> rows = new ArrayList<>();
+        int rejected = 0;
+        byte[] line = new byte[4096];
+        ByteBuffer view = chunk.duplicate();
+        int limit = chunk.limit();
+        int start = 0;
+        while (start < limit) {
+            int lineEnd = start;
+            while (lineEnd < limit && chunk.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int length = lineEnd - start;
+            if (length > line.length) {
+                line = new byte[Math.max(length, line.length * 2)];
+            }
+            view.position(start);
+            view.get(line, 0, length);
+            start = lineEnd + 1;
+            if (isBlank(line, length)) {
+                continue;
+            }
+
+            PostImportRecord record;
+            try {
+                record = recordReader.readValue(line, 0, length);
+            } catch (JsonProcessingException e) {
+                rejected++;
+                continue;
+            }
+            if (record == null || record.getContent() == null || record.getContent().length() > MAX_CONTENT_LENGTH) {
+                rejected++;
+                continue;
+            }
+            rows.add(new Object[]{null, record.getContent(), record.getLikeCnt()});
+        }
+        return new ParsedChunk(rows, rejected, end);
+    }
+
+    private static boolean isBlank(byte[] line, int length) {
+        for (int i = 0; i < length; i++) {
+            if (line[i] != ' ' && line[i] != '\t' && line[i] != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void write(List<Object[]> rows) {
+        for (Object[] row : rows) {
+            row[0] = allocateId();
+        }
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(INSERT_POST, rows.subList(from, Math.min(from + batchSize, rows.size())));
+        }
+    }
+
+    //시퀀스 값 v 하나로 (v - 증가폭, v] 범위를 사용, Hibernate가 할당하는 범위와 겹치지 않음
+    private long allocateId() {
+        while (nextId > maxId) {
+            maxId = jdbcTemplate.queryForObject(NEXT_POST_ID, Long.class);
+            nextId = Math.max(1, maxId - Post.ID_ALLOCATION_SIZE + 1);
+        }
+        return nextId++;
+    }
+
+    private static ParsedChunk await(Future<ParsedChunk> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("게시글 적재가 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            throw new IOException("게시글을 파싱하지 못했습니다", e.getCause());
+        }
+    }
+
+    private long readCheckpoint(String fileKey) {
+        List<Long> offsets = jdbcTemplate.queryForList(SELECT_CHECKPOINT, Long.class, fileKey);
+        return offsets.isEmpty() ? 0 : offsets.get(0);
+    }
+
+    private void writeCheckpoint(String fileKey, Path file, long position) {
+        if (jdbcTemplate.update(UPDATE_CHECKPOINT, position, fileKey) == 0) {
+            jdbcTemplate.update(INSERT_CHECKPOINT, fileKey, file.toAbsolutePath().toString(), position);
+        }
+    }
+
+    //파일 경로, 크기, 앞부분 내용의 SHA-256, 전체 파일을 읽지 않고도 다른 파일을 구분함
+    private static String fileKey(Path file, FileChannel channel, long size) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update(file.toAbsolutePath().normalize().toString().getBytes(StandardCharsets.UTF_8));
+        digest.update(Long.toString(size).getBytes(StandardCharsets.UTF_8));
+        if (size > 0) {
+            digest.update(channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(size, FINGERPRINT_BYTES)));
+        }
+        byte[] hash = digest.digest();
+        char[] hex = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; i++) {
+            hex[i * 2] = HEX[(hash[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX[hash[i] & 0xF];
+        }
+        return new String(hex);
+    }
+
+    private static final class ParsedChunk {
+        private final List<Object[]> rows;
+        private final int rejected;
+        private final long end;
+
+        private ParsedChunk(List<Object[]> rows, int rejected, long end) {
+            this.rows = rows;
+            this.rejected = rejected;
+            this.end = end;
+        }
+    }
+}
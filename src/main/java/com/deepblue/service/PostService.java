@@ -0,0 +1,139 @@
+package com.deepblue.service;
+
+import com.deepblue.domain.Post;
+import com.deepblue.dto.PostDto;
+import com.deepblue.dto.PostVersion;
+import com.deepblue.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글과 관련된 로직을 처리해주는 서비스객체입니다.
+ * @since 2026-10-18
+ */
+@Service
+@RequiredArgsConstructor
+public class PostService {
+
+    private final PostRepository postRepository;
+    private final TrendingPostService trendingPostService;
+    private final LikeCountBroadcaster likeCountBroadcaster;
+
+    /**
+     * 게시글의 좋아요 수를 1 증가시킵니다. 회원당 게시글 하나에 한 번만 누를 수 있습니다.
+     * 동시에 누른 중복 좋아요는 post_like 기본키 위반(DataIntegrityViolationException)으로 롤백됩니다.
+     * @param postId 좋아요를 누를 게시글ID
+     * @param username 좋아요를 누르는 회원명
+     * @return 증가된 좋아요 수
+     * @since 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    @Transactional
+    public int like(Long postId, String username){
+        if(postRepository.countLike(postId, username) > 0){
+            throw new IllegalStateException("이미 좋아요를 누른 게시글입니다");
+        }
+        if(postRepository.increaseLikeCnt(postId) == 0){
+            throw new IllegalArgumentException("존재하지 않는 게시글입니다");
+        }
+        postRepository.insertLike(postId, username);
+        int likeCnt = postRepository.findLikeCntById(postId).orElseThrow();
+
+        //커밋된 뒤에만 인기 게시글 순위와 구독자에게 반영
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                trendingPostService.onLikeChanged(postId, 1, likeCnt);
+                likeCountBroadcaster.onLikeChanged(postId, 1);
+            }
+        });
+        return likeCnt;
+    }
+
+    /**
+     * 본문을 읽지 않고 게시글의 버전만 조회합니다.
+     * @param postId 조회할 게시글ID
+     * @return 게시글 버전, 게시글이 없으면 빈 Optional
+     * @since 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> findVersion(Long postId){
+        return postRepository.findVersionById(postId);
+    }
+
+    /**
+     * 게시글을 조회합니다.
+     * @param postId 조회할 게시글ID
+     * @return 게시글 DTO
+     * @since 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    @Transactional(readOnly = true)
+    public PostDto findPost(Long postId){
+        return postRepository.findById(postId)
+                .map(PostDto::new)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다"));
+    }
+
+    /**
+     * 피드 한 페이지에 해당하는 게시글ID와 버전만 조회합니다.
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @return 최신순으로 정렬된 게시글ID와 버전 목록
+     * @since 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    @Transactional(readOnly = true)
+    public List<PostVersion> findFeedVersions(int page, int size){
+        return postRepository.findVersions(PageRequest.of(page, size));
+    }
+
+    /**
+     * 전달받은 게시글ID 목록의 게시글을 최신순으로 조회합니다.
+     * @param ids 조회할 게시글ID 목록
+     * @return 게시글 DTO 목록
+     * @since 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    @Transactional(readOnly = true)
+    public List<PostDto> findFeed(List<Long> ids){
+        if(ids.isEmpty()){
+            return Collections.emptyList();
+        }
+        return postRepository.findByIdInOrderByIdDesc(ids).stream()
+                .map(PostDto::new)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 게시글 내용을 수정합니다. 기대 버전이 현재 버전과 다르면 수정하지 않습니다.
+     * @param postId 수정할 게시글ID
+     * @param expectedVersion 클라이언트가 알고있는 버전, null이면 버전을 확인하지 않음
+     * @param content 수정할 내용
+     * @return 수정된 게시글 DTO
+     * @since 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    @Transactional
+    public PostDto update(Long postId, Long expectedVersion, String content){
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다"));
+        if(expectedVersion != null && !expectedVersion.equals(post.getVersion())){
+            throw new ObjectOptimisticLockingFailureException(Post.class, postId);
+        }
+        post.setContent(content);
+        postRepository.flush(); //버전 증가를 응답에 반영하기 위해 즉시 반영
+        return new PostDto(post);
+    }
+}
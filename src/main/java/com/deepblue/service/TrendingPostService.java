@@ -0,0 +1,211 @@
+package com.deepblue.service;
+
+import com.deepblue.dto.PostLikeCount;
+import com.deepblue.dto.TrendingPostDto;
+import com.deepblue.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 좋아요 수 기준 인기 게시글 상위 K개를 메모리에 유지해주는 서비스객체입니다.
+ * 좋아요 수가 바뀔 때마다 점진적으로 순위를 갱신하며, DB 재계산은 기동 시점과 수동 요청 시에만 진행합니다.
+ * 반감기를 설정하면 forward decay 방식으로 최근 좋아요에 더 큰 가중치를 줍니다.
+ * @since 2026-10-18
+ */
+@Service
+@Slf4j
+public class TrendingPostService {
+
+    private static final Comparator<ScoredPost> ORDER =
+            Comparator.comparingDouble((ScoredPost p) -> p.score).reversed()
+                    .thenComparing(p -> p.postId, Comparator.reverseOrder());
+
+    //가중치 지수가 이 값을 넘으면 기준시각을 옮겨서 오버플로를 막음
+    private static final double RENORMALIZE_EXPONENT = 32;
+
+    private final PostRepository postRepository;
+    private final int size;
+    private final int candidateSize;
+    private final double halfLifeMillis;
+
+    //아래 필드는 모두 this로 동기화해서 접근
+    private final Map<Long, ScoredPost> candidates = new HashMap<>();
+    private final TreeSet<ScoredPost> ranking = new TreeSet<>(ORDER);
+    private long landmark = System.currentTimeMillis();
+    private double evictedCeiling; //후보에서 밀려난 게시글 점수 중 최대값
+    private boolean stale;
+
+    //요청 스레드는 이 불변 리스트만 읽음
+    private volatile List<TrendingPostDto> snapshot = Collections.emptyList();
+
+    public TrendingPostService(PostRepository postRepository,
+                               @Value("${trending.size:10}") int size,
+                               @Value("${trending.candidate-factor:4}") int candidateFactor,
+                               @Value("${trending.half-life:0}") Duration halfLife) {
+        this.postRepository = postRepository;
+        this.size = size;
+        this.candidateSize = size * Math.max(candidateFactor, 1);
+        this.halfLifeMillis = halfLife.toMillis();
+    }
+
+    /**
+     * 현재 인기 게시글 목록을 반환해줍니다.
+     * @return 점수 내림차순으로 정렬된 상위 K개 게시글
+     * @since 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    public List<TrendingPostDto> getTrendingPosts() {
+        return snapshot;
+    }
+
+    /**
+     * 게시글의 좋아요 수 변경을 순위에 반영합니다.
+     * @param postId 좋아요 수가 바뀐 게시글ID
+     * @param delta 좋아요 변화량
+     * @param likeCnt 변경 후 좋아요 수
+     * @since 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    public synchronized void onLikeChanged(Long postId, int delta, int likeCnt) {
+        long now = System.currentTimeMillis();
+        ScoredPost previous = candidates.remove(postId);
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+
+        double score;
+        if (isDecayEnabled()) {
+            //후보에 없던 게시글은 이전 누적값을 모르므로 이번 변화량부터 누적
+            score = (previous != null ? previous.score : 0) + delta * weight(now);
+        } else {
+            //afterCommit 콜백은 커밋 순서와 다르게 올 수 있으므로 더 큰 좋아요 수를 유지
+            score = Math.max(previous != null ? previous.score : 0, likeCnt);
+        }
+
+        ScoredPost updated = new ScoredPost(postId, score);
+        candidates.put(postId, updated);
+        ranking.add(updated);
+
+        //후보 수를 넘으면 최하위 게시글을 밀어냄
+        while (ranking.size() > candidateSize) {
+            ScoredPost evicted = ranking.pollLast();
+            candidates.remove(evicted.postId);
+            evictedCeiling = Math.max(evictedCeiling, evicted.score);
+        }
+
+        if (isDecayEnabled() && (now - landmark) / halfLifeMillis > RENORMALIZE_EXPONENT) {
+            renormalize(now);
+        }
+        checkStale();
+        publish(now);
+    }
+
+    /**
+     * DB의 좋아요 수를 기준으로 순위를 처음부터 다시 계산합니다.
+     * 반감기를 설정한 경우 DB에는 시간에 따라 감쇠된 점수가 없으므로, 누적 좋아요 수로 채우지 않고
+     * 빈 순위에서 다시 시작해 이후 좋아요로만 채웁니다.
+     * @since 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        //누적 좋아요 수와 감쇠 점수는 단위가 달라 섞지 않음
+        List<PostLikeCount> rows = isDecayEnabled()
+                ? Collections.emptyList()
+                : postRepository.findLikeCounts(PageRequest.of(0, candidateSize));
+
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            candidates.clear();
+            ranking.clear();
+            landmark = now;
+            for (PostLikeCount row : rows) {
+                ScoredPost post = new ScoredPost(row.getId(), row.getLikeCnt());
+                candidates.put(post.postId, post);
+                ranking.add(post);
+            }
+            //후보 수만큼 꽉 찼다면 후보 밖 게시글의 점수는 마지막 후보 이하, 감쇠 점수는 빈 순위에서 시작하므로 0
+            evictedCeiling = rows.size() == candidateSize ? rows.get(rows.size() - 1).getLikeCnt() : 0;
+            stale = false;
+            publish(now);
+        }
+        log.info("인기 게시글 순위를 재계산했습니다. 후보 수: {}", rows.size());
+    }
+
+    private boolean isDecayEnabled() {
+        return halfLifeMillis > 0;
+    }
+
+    private double weight(long now) {
+        return Math.pow(2, (now - landmark) / halfLifeMillis);
+    }
+
+    //기준시각을 현재로 옮기고 모든 점수를 같은 비율로 줄임, 순서는 변하지 않음
+    private void renormalize(long now) {
+        double factor = 1 / weight(now);
+        List<ScoredPost> rescaled = new ArrayList<>(ranking.size());
+        for (ScoredPost post : ranking) {
+            rescaled.add(new ScoredPost(post.postId, post.score * factor));
+        }
+        ranking.clear();
+        candidates.clear();
+        for (ScoredPost post : rescaled) {
+            ranking.add(post);
+            candidates.put(post.postId, post);
+        }
+        evictedCeiling *= factor;
+        landmark = now;
+    }
+
+    //좋아요 취소 등으로 K번째 점수가 밀려난 게시글보다 낮아지면 순위가 부정확해질 수 있음
+    private void checkStale() {
+        if (stale || ranking.size() < size) {
+            return;
+        }
+        double kth = 0;
+        Iterator<ScoredPost> it = ranking.iterator();
+        for (int i = 0; i < size; i++) {
+            kth = it.next().score;
+        }
+        if (kth < evictedCeiling) {
+            stale = true;
+            log.warn("인기 게시글 순위가 부정확할 수 있습니다. 재계산이 필요합니다");
+        }
+    }
+
+    private void publish(long now) {
+        double scale = isDecayEnabled() ? 1 / weight(now) : 1;
+        List<TrendingPostDto> top = new ArrayList<>(size);
+        for (ScoredPost post : ranking) {
+            if (top.size() == size) {
+                break;
+            }
+            top.add(new TrendingPostDto(post.postId, post.score * scale));
+        }
+        snapshot = Collections.unmodifiableList(top);
+    }
+
+    private static final class ScoredPost {
+        private final Long postId;
+        private final double score;
+
+        private ScoredPost(Long postId, double score) {
+            this.postId = postId;
+            this.score = score;
+        }
+    }
+}
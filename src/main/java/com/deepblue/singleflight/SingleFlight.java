@@ -0,0 +1,95 @@
+package com.deepblue.singleflight;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 조회를 하나로 합쳐주는 객체입니다.
+ * 먼저 들어온 호출(리더)만 실제로 조회하고, 그 조회가 끝나기 전에 들어온 같은 키의 호출들은 리더의 결과나 예외를 그대로 받습니다.
+ * 조회가 끝나면 바로 대기열에서 빠지므로 결과를 캐시하지 않습니다.
+ * 진행중인 조회는 키 해시로 나눈 ConcurrentHashMap 묶음에 두고, 조회하는 동안에는 어떤 락도 잡지 않습니다.
+ * @param <K> 조회 키
+ * @param <V> 조회 결과, 여러 호출자가 같은 객체를 받으므로 불변이거나 호출자가 복사해서 써야 함
+ * @since 2026-10-18
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>>[] stripes;
+    private final int mask;
+    private final Counter leaders;
+    private final Counter coalesced;
+
+    @SuppressWarnings("unchecked")
+    public SingleFlight(String name, int stripeCount, MeterRegistry meterRegistry) {
+        int size = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1; //2의 거듭제곱으로 올림
+        this.stripes = new ConcurrentHashMap[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+        this.mask = size - 1;
+        this.leaders = meterRegistry.counter("singleflight.calls", "name", name, "result", "leader");
+        this.coalesced = meterRegistry.counter("singleflight.calls", "name", name, "result", "coalesced");
+    }
+
+    /**
+     * 같은 키로 진행중인 조회가 있으면 그 결과를 기다리고, 없으면 직접 조회합니다.
+     * @param key 조회 키
+     * @param loader 실제 조회, 리더 호출자의 스레드와 트랜잭션에서 실행됨
+     * @return 조회 결과
+     * @since 2026-10-18
+     * @lastModified 2026-10-18
+     */
+    public V execute(K key, Supplier<V> loader) {
+        ConcurrentHashMap<K, CompletableFuture<V>> stripe = stripeFor(key);
+        CompletableFuture<V> inFlight = stripe.get(key);
+        if (inFlight == null) {
+            CompletableFuture<V> mine = new CompletableFuture<>();
+            inFlight = stripe.putIfAbsent(key, mine);
+            if (inFlight == null) {
+                leaders.increment();
+                return lead(stripe, key, mine, loader);
+            }
+        }
+        coalesced.increment();
+        return await(inFlight);
+    }
+
+    private V lead(ConcurrentHashMap<K, CompletableFuture<V>> stripe, K key, CompletableFuture<V> mine, Supplier<V> loader) {
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            //끝난 조회는 바로 빼서 다음 호출은 새로 조회하도록 함
+            stripe.remove(key, mine);
+        }
+    }
+
+    private V await(CompletableFuture<V> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private ConcurrentHashMap<K, CompletableFuture<V>> stripeFor(K key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & mask];
+    }
+}
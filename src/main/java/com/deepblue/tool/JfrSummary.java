@@ -0,0 +1,113 @@
+package com.deepblue.tool;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JFR 기록 파일의 DeepBlue 도메인 이벤트를 작업별 지연시간 히스토그램으로 요약합니다.
+ * 사용법: ./gradlew jfrSummary --args="deepblue.jfr"
+ * @since 2026-10-18
+ */
+public class JfrSummary {
+
+    private static final String EVENT_PREFIX = "com.deepblue.";
+    //마이크로초 단위 2의 거듭제곱 구간, 마지막 구간은 약 1분 이상
+    private static final int BUCKETS = 27;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("사용법: JfrSummary <기록파일.jfr>");
+            System.exit(1);
+        }
+        Path file = Paths.get(args[0]);
+
+        Map<String, Histogram> histograms = new TreeMap<>();
+        try (RecordingFile recording = new RecordingFile(file)) {
+            while (recording.hasMoreEvents()) {
+                RecordedEvent event = recording.readEvent();
+                String name = event.getEventType().getName();
+                if (!name.startsWith(EVENT_PREFIX)) {
+                    continue;
+                }
+                histograms.computeIfAbsent(operationOf(event), key -> new Histogram())
+                        .record(event.getDuration().toNanos() / 1000);
+            }
+        }
+
+        if (histograms.isEmpty()) {
+            System.out.println("DeepBlue 이벤트가 없습니다. deepblue.jfc 설정으로 기록했는지 확인하세요.");
+            return;
+        }
+        histograms.forEach((operation, histogram) -> histogram.print(operation));
+    }
+
+    //이벤트 종류, 리포지토리 메소드, 결과별로 묶음
+    private static String operationOf(RecordedEvent event) {
+        StringBuilder key = new StringBuilder(event.getEventType().getName().substring(EVENT_PREFIX.length()));
+        if (event.hasField("repository")) {
+            key.append(' ').append(event.getString("repository")).append('.').append(event.getString("method"));
+        }
+        if (event.hasField("tokenType")) {
+            key.append(' ').append(event.getString("tokenType"));
+        }
+        if (event.hasField("outcome")) {
+            key.append(" [").append(event.getString("outcome")).append(']');
+        }
+        return key.toString();
+    }
+
+    private static final class Histogram {
+        private final long[] buckets = new long[BUCKETS];
+        private long count;
+        private long totalMicros;
+        private long maxMicros;
+
+        void record(long micros) {
+            int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(Math.max(micros, 0)));
+            buckets[bucket]++;
+            count++;
+            totalMicros += micros;
+            maxMicros = Math.max(maxMicros, micros);
+        }
+
+        //구간 상한값으로 근사한 백분위수
+        long percentile(double p) {
+            long rank = (long) Math.ceil(count * p);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    return Math.min(upperBound(i), maxMicros);
+                }
+            }
+            return maxMicros;
+        }
+
+        void print(String operation) {
+            System.out.printf("%n%s%n", operation);
+            System.out.printf("  count=%d avg=%dus p50<=%dus p90<=%dus p99<=%dus max=%dus%n",
+                    count, totalMicros / count, percentile(0.5), percentile(0.9), percentile(0.99), maxMicros);
+            long peak = 0;
+            for (long bucket : buckets) {
+                peak = Math.max(peak, bucket);
+            }
+            for (int i = 0; i < BUCKETS; i++) {
+                if (buckets[i] == 0) {
+                    continue;
+                }
+                int width = (int) Math.max(1, buckets[i] * 50 / peak);
+                System.out.printf("  <=%10dus %8d %s%n", upperBound(i), buckets[i], "#".repeat(width));
+            }
+        }
+
+        private static long upperBound(int bucket) {
+            return bucket == 0 ? 0 : (1L << bucket) - 1;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.deepblue.tool;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 고정 요청률로 부하를 주고 처리된 요청과 거절된(503) 요청의 지연시간을 따로 집계합니다.
+ * 응답을 기다리지 않고 정해진 간격으로 요청을 보내므로(open loop) 서버가 느려져도 부하가 줄지 않습니다.
+ * 처리량 한계를 먼저 찾은 뒤 그 2배 요청률로 실행하면 동시 처리 한도 필터가 처리된 요청의 p99를 유지하는지 확인할 수 있습니다.
+ * 사용법: ./gradlew loadTest --args="http://localhost:8080/posts 400 30 [POST 본문]"
+ * @since 2026-10-18
+ */
+public class LoadHarness {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("사용법: LoadHarness <URL> <초당 요청 수> <실행 시간(초)> [메소드] [본문]");
+            System.exit(1);
+        }
+        URI uri = URI.create(args[0]);
+        int rate = Integer.parseInt(args[1]);
+        int seconds = Integer.parseInt(args[2]);
+        String method = args.length > 3 ? args[3] : "GET";
+        String body = args.length > 4 ? args[4] : "";
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newCachedThreadPool())
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .method(method, body.isEmpty() ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        ConcurrentLinkedQueue<Long> admitted = new ConcurrentLinkedQueue<>();
+        ConcurrentLinkedQueue<Long> shed = new ConcurrentLinkedQueue<>();
+        AtomicLong errors = new AtomicLong();
+        ConcurrentLinkedQueue<CompletableFuture<?>> pending = new ConcurrentLinkedQueue<>();
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        scheduler.scheduleAtFixedRate(() -> {
+            long start = System.nanoTime();
+            pending.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+                        if (failure != null) {
+                            errors.incrementAndGet();
+                        } else if (response.statusCode() == 503) {
+                            shed.add(micros);
+                        } else if (response.statusCode() < 400) {
+                            admitted.add(micros);
+                        } else {
+                            errors.incrementAndGet();
+                        }
+                    }));
+        }, 0, periodNanos, TimeUnit.NANOSECONDS);
+
+        Thread.sleep(TimeUnit.SECONDS.toMillis(seconds));
+        scheduler.shutdownNow();
+        CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).handle((r, t) -> null).join();
+
+        System.out.printf("요청률 %d/s, %d초, %s %s%n", rate, seconds, method, uri);
+        print("처리됨", admitted, seconds);
+        print("거절됨(503)", shed, seconds);
+        System.out.printf("오류: %d%n", errors.get());
+        System.exit(0);
+    }
+
+    private static void print(String label, ConcurrentLinkedQueue<Long> samples, int seconds) {
+        List<Long> sorted = new ArrayList<>(samples);
+        Collections.sort(sorted);
+        if (sorted.isEmpty()) {
+            System.out.printf("%s: 0건%n", label);
+            return;
+        }
+        System.out.printf("%s: %d건 (%d/s) p50=%.1fms p90=%.1fms p99=%.1fms max=%.1fms%n",
+                label, sorted.size(), sorted.size() / seconds,
+                percentile(sorted, 0.5), percentile(sorted, 0.9), percentile(sorted, 0.99),
+                sorted.get(sorted.size() - 1) / 1000.0);
+    }
+
+    private static double percentile(List<Long> sorted, double p) {
+        int index = (int) Math.min(sorted.size() - 1, Math.ceil(sorted.size() * p) - 1);
+        return sorted.get(Math.max(index, 0)) / 1000.0;
+    }
+}
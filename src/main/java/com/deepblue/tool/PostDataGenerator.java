@@ -0,0 +1,46 @@
+package com.deepblue.tool;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 대량 적재 성능을 측정하기 위한 합성 게시글 NDJSON 파일을 생성합니다.
+ * 사용법: ./gradlew generatePosts --args="posts.ndjson 1000000"
+ * @since 2026-10-18
+ */
+public class PostDataGenerator {
+
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyz ABCDEFGHIJKLMNOPQRSTUVWXYZ 0123456789 가나다라마바사아자차카타파하";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("사용법: PostDataGenerator <출력파일> <게시글 수> [최대 본문 길이]");
+            System.exit(1);
+        }
+        Path out = Paths.get(args[0]);
+        long count = Long.parseLong(args[1]);
+        int maxLength = args.length > 2 ? Integer.parseInt(args[2]) : 2000;
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder line = new StringBuilder(maxLength + 64);
+        long start = System.currentTimeMillis();
+        try (BufferedWriter writer = Files.newBufferedWriter(out, StandardCharsets.UTF_8)) {
+            for (long i = 0; i < count; i++) {
+                line.setLength(0);
+                line.append("{\"content\":\"");
+                int length = 1 + random.nextInt(maxLength);
+                for (int c = 0; c < length; c++) {
+                    line.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+                }
+                line.append("\",\"likeCnt\":").append(random.nextInt(1000)).append("}\n");
+                writer.write(line.toString());
+            }
+        }
+        System.out.printf("게시글 %d건을 %s에 생성했습니다 (%dms)%n", count, out, System.currentTimeMillis() - start);
+    }
+}
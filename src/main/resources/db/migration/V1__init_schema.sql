@@ -0,0 +1,52 @@
+-- 엔티티 ID 시퀀스, 증가폭은 각 엔티티의 allocationSize와 같아야 함
+create sequence member_seq start with 1 increment by 50;
+create sequence post_seq start with 1 increment by 50;
+create sequence refresh_token_seq start with 1 increment by 50;
+create sequence auth_event_seq start with 1 increment by 1;
+
+create table member (
+    member_id bigint not null,
+    username varchar(255) not null,
+    password varchar(255),
+    primary key (member_id)
+);
+-- MemberRepository.findByUsername
+create unique index uk_member_username on member (username);
+
+create table member_roles (
+    member_member_id bigint not null,
+    roles varchar(255)
+);
+create index idx_member_roles_member on member_roles (member_member_id);
+alter table member_roles add constraint fk_member_roles_member
+    foreign key (member_member_id) references member (member_id);
+
+create table post (
+    post_id bigint not null,
+    content varchar(10000),
+    like_cnt integer not null,
+    version bigint default 0 not null,
+    primary key (post_id)
+);
+-- 피드 ETag용 ID, 버전 조회가 본문을 읽지 않도록 정렬 순서대로 버전까지 포함
+create index idx_post_feed on post (post_id desc, version);
+-- 인기 게시글 재계산
+create index idx_post_like_cnt on post (like_cnt desc, post_id desc);
+
+create table refresh_token (
+    token_id bigint not null,
+    digest varchar(512),
+    primary key (token_id)
+);
+-- RefreshTokenRepository.findByDigest, 같은 초에 발급된 토큰은 값이 같을 수 있어 unique가 아님
+create index idx_refresh_token_digest on refresh_token (digest);
+
+create table auth_event (
+    auth_event_id bigint not null,
+    event_type varchar(32),
+    username varchar(255),
+    client_ip varchar(64),
+    occurred_at timestamp(6) null,
+    primary key (auth_event_id)
+);
+create index idx_auth_event_username on auth_event (username, occurred_at);
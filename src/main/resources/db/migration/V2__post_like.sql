@@ -0,0 +1,8 @@
+-- 회원당 게시글 하나에 좋아요 한 번, 동시에 누른 중복 좋아요는 기본키가 막음
+create table post_like (
+    post_id bigint not null,
+    username varchar(255) not null,
+    primary key (post_id, username)
+);
+alter table post_like add constraint fk_post_like_post
+    foreign key (post_id) references post (post_id);
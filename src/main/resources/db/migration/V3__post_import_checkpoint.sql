@@ -0,0 +1,8 @@
+-- 게시글 적재 진행 위치, 청크 저장과 같은 트랜잭션에서 갱신
+-- file_key는 파일 경로, 크기, 앞부분 내용의 SHA-256이라 같은 경로의 다른 파일은 처음부터 적재함
+create table post_import_checkpoint (
+    file_key varchar(64) not null,
+    file_path varchar(1024) not null,
+    byte_offset bigint not null,
+    primary key (file_key)
+);
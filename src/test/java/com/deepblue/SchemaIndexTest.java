@@ -0,0 +1,48 @@
+package com.deepblue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 마이그레이션으로 만든 스키마에서 주요 조회가 인덱스를 사용하는지 H2 실행계획으로 검증합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+class SchemaIndexTest {
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Test
+	void findByUsernameUsesUniqueIndex() {
+		assertThat(explain("select member_id, username, password from member where username = 'user'"))
+				.containsIgnoringCase("uk_member_username");
+	}
+
+	@Test
+	void findByDigestUsesIndex() {
+		assertThat(explain("select token_id, digest from refresh_token where digest = 'token'"))
+				.containsIgnoringCase("idx_refresh_token_digest");
+	}
+
+	@Test
+	void feedVersionsAreReadInIndexOrder() {
+		assertThat(explain("select post_id, version from post order by post_id desc limit 20"))
+				.containsIgnoringCase("idx_post_feed")
+				.containsIgnoringCase("index sorted");
+	}
+
+	@Test
+	void trendingRebuildIsReadInIndexOrder() {
+		assertThat(explain("select post_id, like_cnt from post order by like_cnt desc, post_id desc limit 40"))
+				.containsIgnoringCase("idx_post_like_cnt")
+				.containsIgnoringCase("index sorted");
+	}
+
+	private String explain(String sql) {
+		return jdbcTemplate.queryForObject("explain " + sql, String.class);
+	}
+}
@@ -0,0 +1,148 @@
+package com.deepblue;
+
+import com.deepblue.domain.Post;
+import com.deepblue.monitor.SqlStatementBudgetFilter;
+import com.deepblue.repository.PostRepository;
+import com.deepblue.service.TrendingPostService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트별 SQL 문장 수 상한을 검증합니다. 쿼리 수가 늘어나면 빌드가 실패합니다.
+ */
+@SpringBootTest(properties = "sql-budget.enabled=true")
+@AutoConfigureTestDatabase
+@AutoConfigureMockMvc
+@Import(SqlStatementBudgetTest.OneByOnePostController.class)
+class SqlStatementBudgetTest {
+
+	private static final int SEED_POSTS = 5;
+
+	@Autowired
+	MockMvc mockMvc;
+	@Autowired
+	PostRepository postRepository;
+	@Autowired
+	TrendingPostService trendingPostService;
+
+	//빈 DB에서는 피드 본문 조회와 인기 게시글이 실행되지 않으므로 게시글을 먼저 넣어둠
+	@BeforeEach
+	void seedPosts() {
+		if (postRepository.count() >= SEED_POSTS) {
+			return;
+		}
+		for (int i = 0; i < SEED_POSTS; i++) {
+			Post post = new Post("budget post " + i);
+			post.setLikeCnt(i);
+			postRepository.save(post);
+		}
+		trendingPostService.rebuild();
+	}
+
+	@Test
+	void duplicateCheck() throws Exception {
+		mockMvc.perform(post("/members/duplicate-check").content("user"))
+				.andExpect(status().isBadRequest())
+				.andExpect(statementBudget(1));
+	}
+
+	@Test
+	void login() throws Exception {
+		//회원 조회, 권한 조회, 리프레쉬토큰 시퀀스 조회(첫 할당 시 2회), 리프레쉬토큰 저장
+		mockMvc.perform(post("/login")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"username\":\"user\",\"password\":\"1234\"}"))
+				.andExpect(status().isOk())
+				.andExpect(statementBudget(5));
+	}
+
+	@Test
+	void trendingPosts() throws Exception {
+		//순위는 메모리에서만 읽음
+		mockMvc.perform(get("/posts/trending"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data").isNotEmpty())
+				.andExpect(statementBudget(0));
+	}
+
+	@Test
+	void feed() throws Exception {
+		//ID, 버전 조회와 본문 조회
+		mockMvc.perform(get("/posts"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data").isNotEmpty())
+				.andExpect(statementBudget(2));
+	}
+
+	@Test
+	@WithMockUser(username = "budget-user")
+	void like() throws Exception {
+		//같은 회원이 다시 누르지 않도록 새 게시글에 좋아요
+		Post target = postRepository.save(new Post("like budget post"));
+
+		//중복 확인, 좋아요 수 증가, 좋아요 기록, 좋아요 수 조회
+		mockMvc.perform(post("/posts/" + target.getId() + "/like"))
+				.andExpect(status().isOk())
+				.andExpect(statementBudget(4));
+	}
+
+	@Test
+	void repeatedStatementsAreFlagged() throws Exception {
+		mockMvc.perform(get("/test-only/posts/one-by-one"))
+				.andExpect(status().isOk())
+				.andExpect(result -> {
+					String repeated = result.getResponse().getHeader(SqlStatementBudgetFilter.N_PLUS_ONE_HEADER);
+					assertThat(repeated).as("N+1 헤더").isNotNull();
+					assertThat(Integer.parseInt(repeated)).as("반복된 SQL 모양 수").isGreaterThan(0);
+				});
+	}
+
+	private static ResultMatcher statementBudget(int max) {
+		return result -> {
+			String count = result.getResponse().getHeader(SqlStatementBudgetFilter.STATEMENT_COUNT_HEADER);
+			assertThat(count).as("SQL 문장 수 헤더").isNotNull();
+			assertThat(Integer.parseInt(count)).as("SQL 문장 수").isLessThanOrEqualTo(max);
+			header().string(SqlStatementBudgetFilter.N_PLUS_ONE_HEADER, "0").match(result);
+		};
+	}
+
+	//게시글을 하나씩 조회해서 같은 모양의 SQL을 반복시키는 테스트용 컨트롤러
+	@RestController
+	static class OneByOnePostController {
+
+		private final PostRepository postRepository;
+
+		OneByOnePostController(PostRepository postRepository) {
+			this.postRepository = postRepository;
+		}
+
+		@GetMapping("/test-only/posts/one-by-one")
+		List<String> posts() {
+			return postRepository.findVersions(PageRequest.of(0, SEED_POSTS)).stream()
+					.map(version -> postRepository.findById(version.getId()).map(Post::getContent).orElse(null))
+					.collect(Collectors.toList());
+		}
+	}
+}